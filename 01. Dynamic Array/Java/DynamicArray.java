@@ -1,8 +1,68 @@
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * DynamicArray is a class to represent dynamic array data structure 
  * with various functionalities.
 */
-class DynamicArray<T> {
+class DynamicArray<T> implements Iterable<T> {
+
+  /**
+   * GrowthPolicy decides the new capacity of the array whenever it runs
+   * out of space.
+   */
+  interface GrowthPolicy {
+    // Returns the new capacity for an array of `capacity` which needs to
+    // store at least `minCapacity` elements.
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Returns a policy which doubles the capacity (10, 20, 40, ...).
+     * An empty array grows to a capacity of 1.
+     */
+    static GrowthPolicy doubling() {
+      return (capacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) capacity * 2, 1));
+    }
+
+    /**
+     * Returns a policy which multiplies the capacity by the given factor and
+     * adds one, so small arrays always grow (factor 2 gives 10, 21, 43, ...).
+     */
+    static GrowthPolicy factor(double factor) {
+      if(factor <= 1) {
+        throw new IllegalArgumentException("Factor must be greater than 1.");
+      }
+      return (capacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE - 8, (long) (capacity * factor) + 1);
+    }
+
+    /**
+     * Returns a policy which adds a fixed number of slots to the capacity.
+     */
+    static GrowthPolicy fixedChunk(int chunk) {
+      if(chunk <= 0) {
+        throw new IllegalArgumentException("Chunk must be greater than 0.");
+      }
+      return (capacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE - 8, (long) capacity + chunk);
+    }
+
+    /**
+     * Returns a policy which follows the given policy but never adds more
+     * than `maxIncrement` slots in a single resize.
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+      if(maxIncrement <= 0) {
+        throw new IllegalArgumentException("Maximum increment must be greater than 0.");
+      }
+      return (capacity, minCapacity) -> (int) Math.min(policy.grow(capacity, minCapacity), (long) capacity + maxIncrement);
+    }
+  }
+
   // To store default capacity of the dynamic array.
   private int DEFAULT_CAPACITY = 10; 
   
@@ -15,6 +75,24 @@ class DynamicArray<T> {
   // This is the actual array.
   private T[] arr;
 
+  // Stores the policy used to compute the new capacity while growing.
+  private GrowthPolicy growthPolicy;
+
+  // Stores the capacity the array never shrinks below.
+  private int capacityFloor;
+
+  // Stores whether the array shrinks itself when it becomes sparse.
+  private boolean shrinkEnabled;
+
+  // Stores the number of times the underlying array is reallocated.
+  private long resizeCount;
+
+  // Stores the number of elements copied by all the reallocations.
+  private long copiedElements;
+
+  // Stores the number of structural modifications, used by iterators to fail fast.
+  private int modCount;
+
   /** 
    * Public constructor to initialize DynamicArray with default capacity. 
    */
@@ -22,6 +100,9 @@ class DynamicArray<T> {
     this.size = 0;
     this.capacity = this.DEFAULT_CAPACITY;
     this.arr = (T[]) new Object[capacity];
+    this.growthPolicy = GrowthPolicy.doubling();
+    this.capacityFloor = capacity;
+    this.shrinkEnabled = true;
   }
 
   /** 
@@ -31,6 +112,21 @@ class DynamicArray<T> {
     this.size = 0;
     this.capacity = capacity;
     this.arr = (T[]) new Object[capacity];
+    this.growthPolicy = GrowthPolicy.doubling();
+    this.capacityFloor = capacity;
+    this.shrinkEnabled = true;
+  }
+
+  /** 
+   * Public constructor to initialize DynamicArray with given capacity and growth policy. 
+   */
+  public DynamicArray(int capacity, GrowthPolicy growthPolicy) {
+    this.size = 0;
+    this.capacity = capacity;
+    this.arr = (T[]) new Object[capacity];
+    this.growthPolicy = growthPolicy;
+    this.capacityFloor = capacity;
+    this.shrinkEnabled = true;
   }
 
   /** 
@@ -42,16 +138,120 @@ class DynamicArray<T> {
    */
   public void push(T elem) {
     if(size > capacity-1) {
-      this.capacity *= 2;
-      T[] newArr = (T[]) new Object[this.capacity];
-      for(int i=0;i<size;i++) {
-        newArr[i] = this.arr[i];
-      }
-      this.arr = newArr;
+      ensureCapacity(size + 1);
     }
+    modCount++;
     arr[size++] = elem;
   }
 
+  /**
+   * Adds all the elements of the given array at the end of the array.
+   * The capacity is reserved once and the elements are block copied.
+   *
+   * Complexity: O(n + m), where `m` is the number of added elements.
+   */
+  public void pushAll(T[] elems) {
+    ensureCapacity(size + elems.length);
+    System.arraycopy(elems, 0, arr, size, elems.length);
+    size += elems.length;
+    modCount++;
+  }
+
+  /**
+   * Adds all the elements of the given DynamicArray at the end of the array.
+   * The capacity is reserved once and the elements are block copied.
+   *
+   * Complexity: O(n + m), where `m` is the number of added elements.
+   */
+  public void pushAll(DynamicArray<? extends T> other) {
+    int count = other.size;
+    ensureCapacity(size + count);
+    System.arraycopy(other.arr, 0, arr, size, count);
+    size += count;
+    modCount++;
+  }
+
+  /**
+   * Makes sure the array can store at least `minCapacity` elements without
+   * resizing again. Grows to the larger of `minCapacity` and the capacity
+   * given by the growth policy.
+   *
+   * Complexity: O(n) when resizing is needed, otherwise O(1).
+   */
+  public void ensureCapacity(int minCapacity) {
+    if(minCapacity > capacity) {
+      resize(Math.max(minCapacity, growthPolicy.grow(this.capacity, minCapacity)));
+    }
+  }
+
+  /**
+   * Shrinks the capacity of the array to its current size.
+   *
+   * Complexity: O(n)
+   */
+  public void trimToSize() {
+    if(size < capacity) {
+      resize(Math.max(size, 1));
+    }
+  }
+
+  /**
+   * Internal method to move the elements to a new array of the given capacity.
+   */
+  private void resize(int newCapacity) {
+    T[] newArr = (T[]) new Object[newCapacity];
+    System.arraycopy(this.arr, 0, newArr, 0, size);
+    this.arr = newArr;
+    this.capacity = newCapacity;
+    this.resizeCount++;
+    this.copiedElements += size;
+  }
+
+  /**
+   * Internal method to release memory once the array becomes sparse.
+   * The capacity is halved for as long as the array would be at most a
+   * quarter full, so a bulk removal gives back all the spare memory with a
+   * single resize, and alternating push and pop around the boundary never
+   * thrashes.
+   */
+  private void shrinkIfSparse() {
+    if(!shrinkEnabled) {
+      return;
+    }
+    int newCapacity = capacity;
+    while(newCapacity / 2 >= Math.max(capacityFloor, 1) && size <= newCapacity / 4) {
+      newCapacity /= 2;
+    }
+    if(newCapacity < capacity) {
+      resize(newCapacity);
+    }
+  }
+
+  /**
+   * Enables or disables the automatic shrinking on pop and remove.
+   */
+  public void setShrinkEnabled(boolean shrinkEnabled) {
+    this.shrinkEnabled = shrinkEnabled;
+  }
+
+  /**
+   * Returns the number of times the underlying array is reallocated.
+   *
+   * Complexity: O(1)
+   */
+  public long resizeCount() {
+    return resizeCount;
+  }
+
+  /**
+   * Returns the number of elements copied by all the reallocations.
+   *
+   * Complexity: O(1)
+   */
+  public long copiedElements() {
+    return copiedElements;
+  }
+
   /**
    * Removes the element at the end of the array and returns it. 
    * Returns `null` if array is empty.
@@ -62,7 +262,11 @@ class DynamicArray<T> {
     if(size <= 0) {
       return null;
     }
-    return arr[--size];
+    T removedElem = arr[--size];
+    arr[size] = null;
+    modCount++;
+    shrinkIfSparse();
+    return removedElem;
   }
 
   /**
@@ -77,10 +281,66 @@ class DynamicArray<T> {
       return false;
     }
 
+    removeAt(index);
+    return true;
+  }
+
+  /**
+   * Internal method to remove the element at the given index.
+   */
+  private void removeAt(int index) {
     size--;
-    for(int i=index; i<size;i++) {
-      arr[i] = arr[i+1];
+    System.arraycopy(arr, index + 1, arr, index, size - index);
+    arr[size] = null;
+    modCount++;
+    shrinkIfSparse();
+  }
+
+  /**
+   * Removes all the elements which satisfy the given predicate.
+   * Returns `true` if any element is removed otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean removeIf(Predicate<? super T> filter) {
+    int newSize = 0;
+    for(int i=0;i<size;i++) {
+      if(!filter.test(arr[i])) {
+        arr[newSize++] = arr[i];
+      }
+    }
+    if(newSize == size) {
+      return false;
     }
+
+    for(int i=newSize;i<size;i++) {
+      arr[i] = null;
+    }
+    size = newSize;
+    modCount++;
+    shrinkIfSparse();
+    return true;
+  }
+
+  /**
+   * Removes the elements from index `from` (inclusive) to index `to` (exclusive).
+   * Returns `true` if elements are removed otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean removeRange(int from, int to) {
+    if(from < 0 || to > size || from >= to) {
+      return false;
+    }
+
+    System.arraycopy(arr, to, arr, from, size - to);
+    int newSize = size - (to - from);
+    for(int i=newSize;i<size;i++) {
+      arr[i] = null;
+    }
+    size = newSize;
+    modCount++;
+    shrinkIfSparse();
     return true;
   }
 
@@ -131,6 +391,167 @@ class DynamicArray<T> {
     return size;
   }
 
+  /**
+   * Returns a fail-fast iterator over the elements of the array.
+   * The iterator throws `ConcurrentModificationException` if the array is
+   * structurally modified other than through the iterator itself.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new ArrayIterator();
+  }
+
+  /**
+   * Returns a spliterator over the elements of the array. It reports
+   * `SIZED` and `SUBSIZED` and splits its range in half, so parallel
+   * streams divide the work evenly.
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new ArraySpliterator(0, -1, 0);
+  }
+
+  /**
+   * Returns a sequential stream over the elements of the array.
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a parallel stream over the elements of the array.
+   */
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * ArrayIterator iterates over the elements of the DynamicArray in order.
+   */
+  class ArrayIterator implements Iterator<T> {
+    // Stores the index of the next element to return.
+    private int cursor;
+
+    // Stores the index of the last returned element, `-1` if there is none.
+    private int lastReturned = -1;
+
+    // Stores the modification count the iterator expects.
+    private int expectedModCount = modCount;
+
+    public boolean hasNext() {
+      return cursor < size;
+    }
+
+    public T next() {
+      checkForComodification();
+      if(cursor >= size) {
+        throw new NoSuchElementException();
+      }
+      lastReturned = cursor;
+      return arr[cursor++];
+    }
+
+    public void remove() {
+      if(lastReturned < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      removeAt(lastReturned);
+      cursor = lastReturned;
+      lastReturned = -1;
+      expectedModCount = modCount;
+    }
+
+    private void checkForComodification() {
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * ArraySpliterator traverses a range of the DynamicArray. The end of the
+   * range is bound lazily on first use, so a spliterator created before
+   * elements are pushed still sees them.
+   */
+  class ArraySpliterator implements Spliterator<T> {
+    // Stores the current index, advanced on traversal and split.
+    private int index;
+
+    // Stores the end of the range (exclusive), `-1` until first use.
+    private int fence;
+
+    // Stores the modification count the spliterator expects.
+    private int expectedModCount;
+
+    public ArraySpliterator(int origin, int fence, int expectedModCount) {
+      this.index = origin;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    /**
+     * Internal method to bind the end of the range on first use.
+     */
+    private int getFence() {
+      if(fence < 0) {
+        expectedModCount = modCount;
+        fence = size;
+      }
+      return fence;
+    }
+
+    public ArraySpliterator trySplit() {
+      int hi = getFence();
+      int lo = index;
+      int mid = (lo + hi) >>> 1;
+      if(lo >= mid) {
+        return null;
+      }
+      index = mid;
+      return new ArraySpliterator(lo, mid, expectedModCount);
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if(action == null) {
+        throw new NullPointerException();
+      }
+      int hi = getFence();
+      if(index >= hi) {
+        return false;
+      }
+      T elem = arr[index++];
+      action.accept(elem);
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      return true;
+    }
+
+    public void forEachRemaining(Consumer<? super T> action) {
+      if(action == null) {
+        throw new NullPointerException();
+      }
+      int hi = getFence();
+      T[] values = arr;
+      for(int i=index;i<hi;i++) {
+        action.accept(values[i]);
+      }
+      index = hi;
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    public long estimateSize() {
+      return getFence() - index;
+    }
+
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+  }
+
   /**
    * Displays the array elements.
    *
@@ -0,0 +1,261 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * LongDynamicArray is a class to represent dynamic array data structure
+ * specialized for `long` elements. It stores the elements in a `long[]`
+ * so no element is ever boxed.
+*/
+class LongDynamicArray {
+  // To store default capacity of the dynamic array.
+  private int DEFAULT_CAPACITY = 10;
+
+  // Stores the current size of the array,i.e., the current number of elements.
+  private int size;
+
+  // Stores the current capacity of the array,i.e., how many elemets can the array store.
+  private int capacity;
+
+  // Arrays with at least this many elements are searched in parallel.
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  // Stores how many elements a single parallel task scans sequentially.
+  private static final int PARALLEL_CHUNK = 1 << 14;
+
+  // This is the actual array.
+  private long[] arr;
+
+  // Stores whether the elements are known to be in ascending order.
+  private boolean sorted;
+
+  /**
+   * Public constructor to initialize LongDynamicArray with default capacity.
+   */
+  public LongDynamicArray() {
+    this.size = 0;
+    this.capacity = this.DEFAULT_CAPACITY;
+    this.arr = new long[capacity];
+    this.sorted = true;
+  }
+
+  /**
+   * Public constructor to initialize LongDynamicArray with given capacity.
+   */
+  public LongDynamicArray(int capacity) {
+    this.size = 0;
+    this.capacity = capacity;
+    this.arr = new long[capacity];
+    this.sorted = true;
+  }
+
+  /**
+   * Adds element at the end of the array.
+   *
+   * Complexity:
+   *   Average Case (Array don't need resizing) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
+   */
+  public void push(long elem) {
+    if(size > capacity-1) {
+      if(this.capacity >= Integer.MAX_VALUE - 8) {
+        throw new OutOfMemoryError("No free memory.");
+      }
+      this.capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) this.capacity * 2, 1));
+      long[] newArr = new long[this.capacity];
+      System.arraycopy(this.arr, 0, newArr, 0, size);
+      this.arr = newArr;
+    }
+    if(sorted && size > 0 && arr[size-1] > elem) {
+      sorted = false;
+    }
+    arr[size++] = elem;
+  }
+
+  /**
+   * Removes the element at the end of the array and returns it.
+   * Throws `IndexOutOfBoundsException` if array is empty.
+   *
+   * Complexity: O(1)
+   */
+  public long pop() {
+    if(size <= 0) {
+      throw new IndexOutOfBoundsException("Array is empty.");
+    }
+    return arr[--size];
+  }
+
+  /**
+   * Removes the given element from the array.
+   * Returns `true` if element is removed otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean remove(long elem) {
+    int index = this.indexOf(elem);
+    if(index == -1) {
+      return false;
+    }
+
+    size--;
+    System.arraycopy(arr, index + 1, arr, index, size - index);
+    return true;
+  }
+
+  /**
+   * Replace the element at given index by the given value in the array.
+   * Returns `true` if element is updated otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean update(int index, long elem) {
+    if(index < 0 || index >= size) {
+      return false;
+    }
+
+    if(sorted) {
+      sorted = (index == 0 || arr[index-1] <= elem) && (index == size-1 || elem <= arr[index+1]);
+    }
+    this.arr[index] = elem;
+    return true;
+  }
+
+  /**
+   * Returns the element at the given index.
+   * Throws `IndexOutOfBoundsException` if index is out of range.
+   *
+   * Complexity: O(1)
+   */
+  public long get(int index) {
+    if(index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return arr[index];
+  }
+
+  /**
+   * Returns `true` if the element exists inside the array, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(long elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the index of the given element if exists, otherwise returns `-1`.
+   * If the array is sorted a binary search is used, otherwise large arrays
+   * are split into chunks which are scanned in parallel.
+   *
+   * Complexity:
+   *   Sorted array - O(log n)
+   *   Unsorted array - O(n)
+   */
+  public int indexOf(long elem) {
+    if(sorted) {
+      // Lower bound search, so the first of equal elements is found in O(log n).
+      int lo = 0;
+      int hi = size;
+      while(lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if(arr[mid] < elem) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo < size && arr[lo] == elem ? lo : -1;
+    }
+    if(size >= PARALLEL_THRESHOLD) {
+      return parallelIndexOf(elem);
+    }
+    return indexOf(elem, 0, size);
+  }
+
+  /**
+   * Internal method to return the index of the given element between index
+   * `from` (inclusive) and index `to` (exclusive), otherwise returns `-1`.
+   */
+  private int indexOf(long elem, int from, int to) {
+    for(int i=from;i<to;i++) {
+      if(arr[i] == elem) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Internal method which scans the chunks of the array on the common
+   * fork-join pool. The stream is ordered, so the match from the lowest
+   * chunk wins and chunks after it are skipped once it is found.
+   */
+  private int parallelIndexOf(long elem) {
+    int length = size;
+    int chunks = (length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+    return IntStream.range(0, chunks)
+      .parallel()
+      .map(c -> indexOf(elem, c * PARALLEL_CHUNK, Math.min(length, (c + 1) * PARALLEL_CHUNK)))
+      .filter(i -> i != -1)
+      .findFirst()
+      .orElse(-1);
+  }
+
+  /**
+   * Sorts the elements in ascending order. Once sorted, `indexOf` and
+   * `contains` use a binary search until the order is broken by `push`
+   * or `update`.
+   *
+   * Complexity: O(n log n)
+   */
+  public void sort() {
+    if(size >= PARALLEL_THRESHOLD) {
+      Arrays.parallelSort(arr, 0, size);
+    } else {
+      Arrays.sort(arr, 0, size);
+    }
+    sorted = true;
+  }
+
+  /**
+   * Returns `true` if the elements are known to be in ascending order.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isSorted() {
+    return sorted;
+  }
+
+  /**
+   * Searches the sorted array for the given element. Returns its index if it
+   * exists, otherwise returns `-(insertion point) - 1`.
+   * Throws `IllegalStateException` if the array is not sorted.
+   *
+   * Complexity: O(log n)
+   */
+  public int binarySearch(long elem) {
+    if(!sorted) {
+      throw new IllegalStateException("Array is not sorted.");
+    }
+    return Arrays.binarySearch(arr, 0, size, elem);
+  }
+
+  /**
+   * Returns the size of the array.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Displays the array elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(int i=0;i<size;i++) {
+      System.out.println(arr[i]);
+    }
+  }
+}
@@ -0,0 +1,256 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedIntDynamicArray is a class to represent dynamic array data structure
+ * of `int` elements whose storage is a memory-mapped file. Opening an
+ * existing file maps the elements back instead of pushing them again, and
+ * `force` makes the current contents durable.
+ *
+ * File layout: a header with a magic number and the size, followed by the
+ * elements as little-endian `int` values.
+*/
+class MappedIntDynamicArray implements Closeable {
+  // Identifies files written by this class.
+  private static final int MAGIC = 0x44594E41;
+
+  // Stores the number of bytes used by the header.
+  private static final int HEADER_SIZE = 16;
+
+  // Stores the position of the size inside the header.
+  private static final int SIZE_OFFSET = 4;
+
+  // Stores the largest capacity a single mapping can hold.
+  private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / Integer.BYTES;
+
+  // To store default capacity of the dynamic array.
+  private static final int DEFAULT_CAPACITY = 1024;
+
+  // Stores the current size of the array,i.e., the current number of elements.
+  private int size;
+
+  // Stores the current capacity of the array,i.e., how many elemets can the array store.
+  private int capacity;
+
+  // Stores the channel of the backing file.
+  private FileChannel channel;
+
+  // Stores the mapping of the whole file.
+  private MappedByteBuffer buffer;
+
+  // This is the actual array, a view of the mapping after the header.
+  private IntBuffer arr;
+
+  /**
+   * Public constructor to open or create the array stored in the given file
+   * with default capacity.
+   */
+  public MappedIntDynamicArray(String path) throws IOException {
+    this(path, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Public constructor to open or create the array stored in the given file.
+   * The capacity is only used when the file does not exist yet.
+   */
+  public MappedIntDynamicArray(String path, int capacity) throws IOException {
+    Path file = Paths.get(path);
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    long length = channel.size();
+    if(length >= HEADER_SIZE) {
+      map((int) Math.min((length - HEADER_SIZE) / Integer.BYTES, MAX_CAPACITY));
+      int storedSize = buffer.getInt(SIZE_OFFSET);
+      if(buffer.getInt(0) != MAGIC || storedSize < 0 || storedSize > capacity()) {
+        channel.close();
+        throw new IOException("Not a valid dynamic array file: " + path);
+      }
+      this.size = storedSize;
+    } else {
+      map(Math.max(capacity, 1));
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(SIZE_OFFSET, 0);
+      this.size = 0;
+    }
+  }
+
+  /**
+   * Internal method to map the file with room for `capacity` elements.
+   * Mapping beyond the end of the file grows the file.
+   */
+  private void map(int capacity) throws IOException {
+    long bytes = HEADER_SIZE + (long) capacity * Integer.BYTES;
+    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+    this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+    this.arr = buffer.slice(HEADER_SIZE, capacity * Integer.BYTES)
+      .order(ByteOrder.LITTLE_ENDIAN)
+      .asIntBuffer();
+    this.capacity = capacity;
+  }
+
+  /**
+   * Internal method to write the size to the header.
+   */
+  private void setSize(int size) {
+    this.size = size;
+    buffer.putInt(SIZE_OFFSET, size);
+  }
+
+  /**
+   * Adds element at the end of the array.
+   * A full array remaps the file with double the capacity, the elements
+   * are not copied.
+   *
+   * Complexity: O(1)
+   */
+  public void push(int elem) throws IOException {
+    if(size > capacity-1) {
+      if(capacity >= MAX_CAPACITY) {
+        throw new OutOfMemoryError("No free memory.");
+      }
+      map((int) Math.min((long) capacity * 2, MAX_CAPACITY));
+    }
+    arr.put(size, elem);
+    setSize(size + 1);
+  }
+
+  /**
+   * Removes the element at the end of the array and returns it.
+   * Throws `IndexOutOfBoundsException` if array is empty.
+   *
+   * Complexity: O(1)
+   */
+  public int pop() {
+    if(size <= 0) {
+      throw new IndexOutOfBoundsException("Array is empty.");
+    }
+    int removedElem = arr.get(size - 1);
+    setSize(size - 1);
+    return removedElem;
+  }
+
+  /**
+   * Removes the given element from the array.
+   * Returns `true` if element is removed otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean remove(int elem) {
+    int index = this.indexOf(elem);
+    if(index == -1) {
+      return false;
+    }
+
+    arr.put(index, arr, index + 1, size - index - 1);
+    setSize(size - 1);
+    return true;
+  }
+
+  /**
+   * Replace the element at given index by the given value in the array.
+   * Returns `true` if element is updated otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean update(int index, int elem) {
+    if(index < 0 || index >= size) {
+      return false;
+    }
+
+    arr.put(index, elem);
+    return true;
+  }
+
+  /**
+   * Returns the element at the given index.
+   * Throws `IndexOutOfBoundsException` if index is out of range.
+   *
+   * Complexity: O(1)
+   */
+  public int get(int index) {
+    if(index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return arr.get(index);
+  }
+
+  /**
+   * Returns `true` if the element exists inside the array, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(int elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the index of the given element if exists, otherwise returns `-1`.
+   *
+   * Complexity: O(n)
+   */
+  public int indexOf(int elem) {
+    for(int i=0;i<size;i++) {
+      if(arr.get(i) == elem) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the size of the array.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of elements the current mapping can store.
+   *
+   * Complexity: O(1)
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Writes the changes made to the mapping to the storage device.
+   *
+   * Complexity: O(n)
+   */
+  public void force() {
+    buffer.force();
+  }
+
+  /**
+   * Forces the changes to storage and closes the backing file.
+   * The mapping stays valid until it is garbage collected, but the array
+   * must not be used after closing.
+   */
+  @Override
+  public void close() throws IOException {
+    force();
+    channel.close();
+  }
+
+  /**
+   * Displays the array elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(int i=0;i<size;i++) {
+      System.out.println(arr.get(i));
+    }
+  }
+}
@@ -0,0 +1,279 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * OffHeapDynamicArray is a class to represent dynamic array data structure
+ * whose elements live outside the Java heap. Every element is encoded as a
+ * fixed-width record inside a direct `ByteBuffer`, so the garbage collector
+ * never has to scan or copy the stored data.
+ *
+ * Growing is still a full O(n) copy into a new direct buffer, and the old
+ * buffer is only freed once the garbage collector collects it. Several
+ * generations of storage may therefore be alive at once, and when
+ * `MaxDirectMemorySize` is reached `allocateDirect` falls back to
+ * `System.gc()`. Callers which know the final size should pass it to the
+ * constructor or call `ensureCapacity` so the buffer is allocated once.
+*/
+class OffHeapDynamicArray<T> {
+
+  /**
+   * Codec describes how an element is written to and read from a
+   * fixed-width record of the underlying buffer.
+   */
+  interface Codec<T> {
+    // Returns the number of bytes used by a single record.
+    int width();
+
+    // Writes the element as a record starting at `offset`.
+    void write(ByteBuffer buffer, int offset, T elem);
+
+    // Reads the record starting at `offset` back into an element.
+    T read(ByteBuffer buffer, int offset);
+  }
+
+  // Codec storing `Integer` elements as 4 byte records.
+  public static final Codec<Integer> INT_CODEC = new Codec<Integer>() {
+    public int width() { return Integer.BYTES; }
+    public void write(ByteBuffer buffer, int offset, Integer elem) { buffer.putInt(offset, elem); }
+    public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+  };
+
+  // Codec storing `Long` elements as 8 byte records.
+  public static final Codec<Long> LONG_CODEC = new Codec<Long>() {
+    public int width() { return Long.BYTES; }
+    public void write(ByteBuffer buffer, int offset, Long elem) { buffer.putLong(offset, elem); }
+    public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+  };
+
+  // Codec storing `Double` elements as 8 byte records.
+  public static final Codec<Double> DOUBLE_CODEC = new Codec<Double>() {
+    public int width() { return Double.BYTES; }
+    public void write(ByteBuffer buffer, int offset, Double elem) { buffer.putDouble(offset, elem); }
+    public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+  };
+
+  // To store default capacity of the dynamic array.
+  private int DEFAULT_CAPACITY = 10;
+
+  // Stores the current size of the array,i.e., the current number of elements.
+  private int size;
+
+  // Stores the current capacity of the array,i.e., how many elemets can the array store.
+  private int capacity;
+
+  // Stores the codec used to encode and decode the elements.
+  private Codec<T> codec;
+
+  // Stores the width of a single record in bytes.
+  private int width;
+
+  // This is the actual off-heap storage.
+  private ByteBuffer buffer;
+
+  // Stores a single encoded record used while searching.
+  private ByteBuffer scratch;
+
+  /**
+   * Public constructor to initialize OffHeapDynamicArray with default capacity.
+   */
+  public OffHeapDynamicArray(Codec<T> codec) {
+    this.size = 0;
+    this.capacity = this.DEFAULT_CAPACITY;
+    this.codec = codec;
+    this.width = codec.width();
+    this.buffer = allocate(this.capacity);
+    this.scratch = ByteBuffer.allocate(width).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Public constructor to initialize OffHeapDynamicArray with given capacity.
+   */
+  public OffHeapDynamicArray(Codec<T> codec, int capacity) {
+    this.size = 0;
+    this.capacity = Math.max(capacity, 1);
+    this.codec = codec;
+    this.width = codec.width();
+    this.buffer = allocate(this.capacity);
+    this.scratch = ByteBuffer.allocate(width).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Allocates a direct buffer which can store `capacity` records.
+   */
+  private ByteBuffer allocate(int capacity) {
+    long bytes = (long) capacity * width;
+    if(bytes > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("Requested capacity exceeds the maximum buffer size.");
+    }
+    return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Adds element at the end of the array.
+   *
+   * Complexity:
+   *   Average Case (Array don't need resizing) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
+   */
+  public void push(T elem) {
+    if(size > capacity-1) {
+      int newCapacity = (int) Math.min((long) capacity * 2, Integer.MAX_VALUE / width);
+      if(newCapacity <= capacity) {
+        throw new OutOfMemoryError("No free memory.");
+      }
+      resize(newCapacity);
+    }
+    codec.write(buffer, size * width, elem);
+    size++;
+  }
+
+  /**
+   * Makes sure the array can store at least `minCapacity` elements without
+   * allocating again, so a caller which knows the final size pays for a
+   * single direct buffer.
+   *
+   * Complexity: O(n) when resizing is needed, otherwise O(1).
+   */
+  public void ensureCapacity(int minCapacity) {
+    if(minCapacity > capacity) {
+      resize(minCapacity);
+    }
+  }
+
+  /**
+   * Internal method to move the records to a new direct buffer of the given
+   * capacity. The old buffer is freed whenever the garbage collector
+   * collects it.
+   */
+  private void resize(int newCapacity) {
+    ByteBuffer newBuffer = allocate(newCapacity);
+    // A single bulk copy of the used bytes, no per element work.
+    newBuffer.put(0, buffer, 0, size * width);
+    this.buffer = newBuffer;
+    this.capacity = newCapacity;
+  }
+
+  /**
+   * Removes the element at the end of the array and returns it.
+   * Returns `null` if array is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T pop() {
+    if(size <= 0) {
+      return null;
+    }
+    size--;
+    return codec.read(buffer, size * width);
+  }
+
+  /**
+   * Removes the given element from the array.
+   * Returns `true` if element is removed otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean remove(T elem) {
+    int index = this.indexOf(elem);
+    if(index == -1) {
+      return false;
+    }
+
+    size--;
+    int offset = index * width;
+    buffer.put(offset, buffer, offset + width, (size - index) * width);
+    return true;
+  }
+
+  /**
+   * Replace the element at given index by the given value in the array.
+   * Returns `true` if element is updated otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean update(int index, T elem) {
+    if(index < 0 || index >= size) {
+      return false;
+    }
+
+    codec.write(buffer, index * width, elem);
+    return true;
+  }
+
+  /**
+   * Returns the element at the given index.
+   * Throws `IndexOutOfBoundsException` if index is out of range.
+   *
+   * Complexity: O(1)
+   */
+  public T get(int index) {
+    if(index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return codec.read(buffer, index * width);
+  }
+
+  /**
+   * Returns `true` if the element exists inside the array, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(T elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the index of the given element if exists, otherwise returns `-1`.
+   * The element is encoded once and the records are compared byte by byte,
+   * so nothing is decoded while searching.
+   *
+   * Complexity: O(n)
+   */
+  public int indexOf(T elem) {
+    codec.write(scratch, 0, elem);
+    for(int i=0;i<size;i++) {
+      if(matches(i * width)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Internal method to compare the record at `offset` with the scratch record.
+   */
+  private boolean matches(int offset) {
+    int j = 0;
+    for(;j + Long.BYTES <= width;j += Long.BYTES) {
+      if(buffer.getLong(offset + j) != scratch.getLong(j)) {
+        return false;
+      }
+    }
+    for(;j<width;j++) {
+      if(buffer.get(offset + j) != scratch.get(j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the size of the array.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Displays the array elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(int i=0;i<size;i++) {
+      System.out.println(codec.read(buffer, i * width).toString());
+    }
+  }
+}
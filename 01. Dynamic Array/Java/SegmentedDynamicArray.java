@@ -0,0 +1,235 @@
+/**
+ * SegmentedDynamicArray is a class to represent dynamic array data structure
+ * which stores its elements in fixed-size chunks. Growing the array only
+ * allocates a new chunk, so existing elements are never copied.
+*/
+class SegmentedDynamicArray<T> {
+  // Every chunk stores `1 << CHUNK_SHIFT` elements.
+  private static final int CHUNK_SHIFT = 10;
+
+  // Stores the number of elements in a single chunk.
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  // Mask to get the position of an element inside its chunk.
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  // To store default number of slots in the chunk directory.
+  private int DEFAULT_DIRECTORY_CAPACITY = 8;
+
+  // Stores the current size of the array,i.e., the current number of elements.
+  private int size;
+
+  // Stores the number of chunks which are currently allocated.
+  private int chunkCount;
+
+  // This is the directory of chunks which holds the actual elements.
+  private Object[][] chunks;
+
+  // Stores the next, twice as large, directory while it is being filled,
+  // otherwise `null`.
+  private Object[][] nextChunks;
+
+  // Stores how many slots of the directory were copied to `nextChunks`.
+  private int copiedChunks;
+
+  /**
+   * Public constructor to initialize SegmentedDynamicArray.
+   */
+  public SegmentedDynamicArray() {
+    this.size = 0;
+    this.chunkCount = 0;
+    this.chunks = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+  }
+
+  /**
+   * Adds element at the end of the array.
+   * A full array only gets a new chunk, the stored elements are never moved.
+   * The directory of chunks is not copied in one go either: once it is half
+   * full a directory twice as large is allocated, and every push copies one
+   * slot into it, so it is complete before the old one runs out. The only
+   * work left proportional to the size is the JVM clearing the new
+   * directory, one reference per 1024 elements.
+   *
+   * Complexity: O(1)
+   */
+  public void push(T elem) {
+    if(nextChunks != null) {
+      copyChunkSlot();
+    }
+    int chunk = size >>> CHUNK_SHIFT;
+    if(chunk == chunkCount) {
+      while(chunkCount == chunks.length) {
+        // Safety net, filling the other half of the directory takes far
+        // more pushes than it has slots, so the copy is always done first.
+        copyChunkSlot();
+      }
+      setChunk(chunkCount++, new Object[CHUNK_SIZE]);
+      if(nextChunks == null && chunkCount >= chunks.length / 2) {
+        nextChunks = new Object[chunks.length * 2][];
+        copiedChunks = 0;
+      }
+    }
+    chunks[chunk][size & CHUNK_MASK] = elem;
+    size++;
+  }
+
+  /**
+   * Internal method to copy one slot of the directory to the next one, and
+   * to switch to the next directory once all slots are copied.
+   */
+  private void copyChunkSlot() {
+    nextChunks[copiedChunks] = chunks[copiedChunks];
+    copiedChunks++;
+    if(copiedChunks == chunks.length) {
+      chunks = nextChunks;
+      nextChunks = null;
+    }
+  }
+
+  /**
+   * Internal method to set a slot of the directory, and of the next
+   * directory while it is being filled.
+   */
+  private void setChunk(int index, Object[] chunk) {
+    chunks[index] = chunk;
+    if(nextChunks != null) {
+      nextChunks[index] = chunk;
+    }
+  }
+
+  /**
+   * Removes the element at the end of the array and returns it.
+   * Returns `null` if array is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T pop() {
+    if(size <= 0) {
+      return null;
+    }
+    size--;
+    Object[] chunk = chunks[size >>> CHUNK_SHIFT];
+    T removedElem = (T) chunk[size & CHUNK_MASK];
+    chunk[size & CHUNK_MASK] = null;
+    releaseSpareChunks();
+    return removedElem;
+  }
+
+  /**
+   * Removes the given element from the array.
+   * Returns `true` if element is removed otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean remove(T elem) {
+    int index = this.indexOf(elem);
+    if(index == -1) {
+      return false;
+    }
+
+    size--;
+    int chunk = index >>> CHUNK_SHIFT;
+    int offset = index & CHUNK_MASK;
+    int lastChunk = size >>> CHUNK_SHIFT;
+    while(chunk < lastChunk) {
+      // Shift the rest of this chunk and pull in the first element of the next one.
+      System.arraycopy(chunks[chunk], offset + 1, chunks[chunk], offset, CHUNK_MASK - offset);
+      chunks[chunk][CHUNK_MASK] = chunks[chunk + 1][0];
+      chunk++;
+      offset = 0;
+    }
+    int end = size & CHUNK_MASK;
+    System.arraycopy(chunks[chunk], offset + 1, chunks[chunk], offset, end - offset);
+    chunks[chunk][end] = null;
+    releaseSpareChunks();
+    return true;
+  }
+
+  /**
+   * Internal method to drop empty chunks at the end of the directory.
+   * One empty chunk is kept so push and pop at a chunk boundary do not
+   * allocate and release the same chunk over and over.
+   */
+  private void releaseSpareChunks() {
+    int usedChunks = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+    while(chunkCount > usedChunks + 1) {
+      setChunk(--chunkCount, null);
+    }
+  }
+
+  /**
+   * Replace the element at given index by the given value in the array.
+   * Returns `true` if element is updated otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean update(int index, T elem) {
+    if(index < 0 || index >= size) {
+      return false;
+    }
+
+    chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = elem;
+    return true;
+  }
+
+  /**
+   * Returns the element at the given index.
+   * Throws `IndexOutOfBoundsException` if index is out of range.
+   *
+   * Complexity: O(1)
+   */
+  public T get(int index) {
+    if(index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return (T) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+  }
+
+  /**
+   * Returns `true` if the element exists inside the array, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(T elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the index of the given element if exists, otherwise returns `-1`.
+   *
+   * Complexity: O(n)
+   */
+  public int indexOf(T elem) {
+    for(int chunk=0;chunk<chunkCount;chunk++) {
+      Object[] values = chunks[chunk];
+      int base = chunk << CHUNK_SHIFT;
+      int end = Math.min(CHUNK_SIZE, size - base);
+      for(int i=0;i<end;i++) {
+        if(elem.equals(values[i])) {
+          return base + i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the size of the array.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Displays the array elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(int i=0;i<size;i++) {
+      System.out.println(get(i).toString());
+    }
+  }
+}
@@ -15,6 +15,9 @@ class ArrayStack<T> {
   // This is the actual array.
   private T[] arr;
 
+  // Stores whether the array is shared with a snapshot and must be copied before writing.
+  private boolean shared;
+
   /** 
    * Public constructor to initialize ArrayStack with default capacity. 
    */
@@ -33,6 +36,16 @@ class ArrayStack<T> {
     this.arr = (T[]) new Object[capacity];
   }
 
+  /** 
+   * Private constructor to initialize ArrayStack sharing the given array. 
+   */
+  private ArrayStack(T[] arr, int top) {
+    this.top = top;
+    this.capacity = arr.length;
+    this.arr = arr;
+    this.shared = true;
+  }
+
   /** 
    * Adds element to the stack.
    *
@@ -42,16 +55,74 @@ class ArrayStack<T> {
    */
   public void push(T elem) {
     if(top > capacity-1) {
-      this.capacity *= 2;
-      T[] newArr = (T[]) new Object[this.capacity];
-      for(int i=0;i<top;i++) {
-        newArr[i] = this.arr[i];
-      }
-      this.arr = newArr;
+      resize(Math.max(this.capacity * 2, 1));
+    } else if(shared) {
+      resize(this.capacity);
     }
     arr[top++] = elem;
   }
 
+  /** 
+   * Adds `len` elements of `src` starting at index `off` to the stack.
+   * The elements are pushed in order, so `src[off + len - 1]` ends up on top.
+   * Throws `IndexOutOfBoundsException` if the range is outside of `src`.
+   *
+   * Complexity: O(len), with a single capacity check and a block copy.
+   */
+  public void pushAll(T[] src, int off, int len) {
+    if(off < 0 || len < 0 || off > src.length - len) {
+      throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + src.length);
+    }
+    if(top + len > capacity) {
+      resize(Math.max(this.capacity * 2, top + len));
+    } else if(shared) {
+      resize(this.capacity);
+    }
+    System.arraycopy(src, off, arr, top, len);
+    top += len;
+  }
+
+  /**
+   * Removes up to `max` elements from the top of the stack into `dst` and
+   * returns how many were removed. The elements keep their stack order, so
+   * `dst[0]` is the deepest removed element and `dst[count - 1]` was the top.
+   * Pushing them back with `pushAll(dst, 0, count)` restores the stack.
+   *
+   * Complexity: O(count), with a single block copy.
+   */
+  public int popInto(T[] dst, int max) {
+    int count = Math.min(top, Math.min(max, dst.length));
+    if(count <= 0) {
+      return 0;
+    }
+    top -= count;
+    System.arraycopy(arr, top, dst, 0, count);
+    return count;
+  }
+
+  /**
+   * Returns a copy of the stack. The copy shares the array with this stack
+   * until either of them is written to, at which point the writer copies
+   * the array, so taking a snapshot is cheap no matter how big the stack is.
+   *
+   * Complexity: O(1)
+   */
+  public ArrayStack<T> snapshot() {
+    this.shared = true;
+    return new ArrayStack<T>(arr, top);
+  }
+
+  /**
+   * Internal method to move the elements to a new array of the given capacity.
+   */
+  private void resize(int newCapacity) {
+    T[] newArr = (T[]) new Object[newCapacity];
+    System.arraycopy(this.arr, 0, newArr, 0, top);
+    this.arr = newArr;
+    this.capacity = newCapacity;
+    this.shared = false;
+  }
+
   /**
    * Removes the element at the end of the array and returns it. 
    * Returns `null` if array is empty.
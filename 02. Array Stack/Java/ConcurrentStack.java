@@ -0,0 +1,209 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+/**
+ * ConcurrentStack is a class to represent a lock-free stack data structure
+ * (Treiber stack) which can be shared between threads.
+ *
+ * Threads which fail to swing the top pointer because of contention try to
+ * meet a thread doing the opposite operation in an elimination array. A push
+ * and a pop which meet there exchange the element directly and both finish
+ * without touching the top pointer at all.
+*/
+class ConcurrentStack<T> {
+
+  /**
+   * Class to represent a node of the stack.
+   */
+  static class Node<T> {
+    public final T value;
+    public Node<T> next;
+
+    public Node(T value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * Exchanger is a single slot where two threads can swap their items.
+   * The stamp of the slot tracks its state.
+   */
+  static class Exchanger {
+    // The slot is free.
+    private static final int EMPTY = 0;
+
+    // A thread has placed its item and waits for a partner.
+    private static final int WAITING = 1;
+
+    // A partner has taken the item and left its own.
+    private static final int BUSY = 2;
+
+    // Stores the item in the slot along with the state of the slot.
+    private final AtomicStampedReference<Object> slot = new AtomicStampedReference<Object>(null, EMPTY);
+
+    /**
+     * Tries to swap `myItem` with the item of another thread within the
+     * given number of spins. Returns the item of the partner, or `TIMEOUT`
+     * if no partner showed up.
+     */
+    public Object exchange(Object myItem, int spins) {
+      int[] stampHolder = new int[1];
+      for(int i=0;i<spins;i++) {
+        Object yourItem = slot.get(stampHolder);
+        switch(stampHolder[0]) {
+          case EMPTY:
+            if(slot.compareAndSet(yourItem, myItem, EMPTY, WAITING)) {
+              for(;i<spins;i++) {
+                yourItem = slot.get(stampHolder);
+                if(stampHolder[0] == BUSY) {
+                  slot.set(null, EMPTY);
+                  return yourItem;
+                }
+                Thread.onSpinWait();
+              }
+              if(slot.compareAndSet(myItem, null, WAITING, EMPTY)) {
+                return TIMEOUT;
+              }
+              // A partner arrived right before we gave up.
+              yourItem = slot.getReference();
+              slot.set(null, EMPTY);
+              return yourItem;
+            }
+            break;
+          case WAITING:
+            if(slot.compareAndSet(yourItem, myItem, WAITING, BUSY)) {
+              return yourItem;
+            }
+            break;
+          default:
+            break;
+        }
+        Thread.onSpinWait();
+      }
+      return TIMEOUT;
+    }
+  }
+
+  // Returned by an exchange in which no partner showed up.
+  private static final Object TIMEOUT = new Object();
+
+  // Stores how many times a thread spins in the elimination array.
+  private static final int ELIMINATION_SPINS = 64;
+
+  // Stores the pointer to the top node of the stack.
+  private final AtomicReference<Node<T>> top = new AtomicReference<Node<T>>();
+
+  // This is the elimination array.
+  private final Exchanger[] elimination;
+
+  /**
+   * Public constructor to initialize ConcurrentStack with an elimination
+   * array sized by the number of processors.
+   */
+  public ConcurrentStack() {
+    this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+  }
+
+  /**
+   * Public constructor to initialize ConcurrentStack with an elimination
+   * array of the given size.
+   */
+  public ConcurrentStack(int eliminationSize) {
+    this.elimination = new Exchanger[Math.max(eliminationSize, 1)];
+    for(int i=0;i<elimination.length;i++) {
+      elimination[i] = new Exchanger();
+    }
+  }
+
+  /**
+   * Internal method to exchange the given item at a random slot of the
+   * elimination array.
+   */
+  private Object eliminate(Object item) {
+    int index = ThreadLocalRandom.current().nextInt(elimination.length);
+    return elimination[index].exchange(item, ELIMINATION_SPINS);
+  }
+
+  /**
+   * Adds element to the stack.
+   * Throws `NullPointerException` if element is `null`.
+   *
+   * Complexity: O(1) without contention
+   */
+  public void push(T elem) {
+    if(elem == null) {
+      throw new NullPointerException();
+    }
+
+    Node<T> newNode = new Node<T>(elem);
+    while(true) {
+      Node<T> oldTop = top.get();
+      newNode.next = oldTop;
+      if(top.compareAndSet(oldTop, newNode)) {
+        return;
+      }
+      // A `null` item means we met a pop, which took our element.
+      if(eliminate(elem) == null) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Removes the top element of the stack and returns it.
+   * Returns `null` if stack is empty.
+   *
+   * Complexity: O(1) without contention
+   */
+  public T pop() {
+    while(true) {
+      Node<T> oldTop = top.get();
+      if(oldTop == null) {
+        return null;
+      }
+      if(top.compareAndSet(oldTop, oldTop.next)) {
+        return oldTop.value;
+      }
+      // A non `null` item means we met a push, which handed over its element.
+      Object other = eliminate(null);
+      if(other != null && other != TIMEOUT) {
+        return (T) other;
+      }
+    }
+  }
+
+  /**
+   * Returns the top element of the stack without removing it.
+   * Returns `null` if stack is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peek() {
+    Node<T> currentTop = top.get();
+    return currentTop == null ? null : currentTop.value;
+  }
+
+  /**
+   * Returns `true` if the stack has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return top.get() == null;
+  }
+
+  /**
+   * Returns the size of the stack. The result is only a snapshot when
+   * other threads modify the stack concurrently.
+   *
+   * Complexity: O(n)
+   */
+  public int size() {
+    int count = 0;
+    for(Node<T> node = top.get(); node != null; node = node.next) {
+      count++;
+    }
+    return count;
+  }
+}
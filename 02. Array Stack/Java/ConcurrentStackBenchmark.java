@@ -0,0 +1,98 @@
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * This is the main class which compares the throughput of ConcurrentStack
+ * with an ArrayStack guarded by a single lock.
+ *
+ * Every thread uses the stack as a shared free-list: it pops an element and
+ * pushes it back, for the given number of operations (default 1,000,000).
+ * The run is repeated for 1, 2, 4, ... threads up to twice the number of
+ * processors.
+ */
+class ConcurrentStackBenchmark {
+
+  /**
+   * Shared stack operations used by the benchmark.
+   */
+  interface SharedStack {
+    void push(Integer elem);
+    Integer pop();
+  }
+
+  // Stores how many elements the free-list starts with.
+  private static final int INITIAL_ELEMENTS = 1024;
+
+  public static void main(String args[]) throws InterruptedException {
+    int operations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    int maxThreads = 2 * Runtime.getRuntime().availableProcessors();
+
+    // Warm up every implementation before measuring.
+    run(lockedStack(), 2, operations);
+    run(concurrentStack(), 2, operations);
+
+    System.out.println("threads  synchronized ArrayStack (ops/ms)  ConcurrentStack (ops/ms)");
+    for(int threads=1;threads<=maxThreads;threads*=2) {
+      double locked = run(lockedStack(), threads, operations);
+      double lockFree = run(concurrentStack(), threads, operations);
+      System.out.println(String.format("%7d  %33.0f  %24.0f", threads, locked, lockFree));
+    }
+  }
+
+  /**
+   * Returns an ArrayStack where every operation takes the same lock.
+   */
+  private static SharedStack lockedStack() {
+    ArrayStack<Integer> stack = new ArrayStack<Integer>();
+    return new SharedStack() {
+      public synchronized void push(Integer elem) { stack.push(elem); }
+      public synchronized Integer pop() { return stack.pop(); }
+    };
+  }
+
+  /**
+   * Returns a ConcurrentStack.
+   */
+  private static SharedStack concurrentStack() {
+    ConcurrentStack<Integer> stack = new ConcurrentStack<Integer>();
+    return new SharedStack() {
+      public void push(Integer elem) { stack.push(elem); }
+      public Integer pop() { return stack.pop(); }
+    };
+  }
+
+  /**
+   * Runs the free-list workload and returns the throughput in operations
+   * per millisecond.
+   */
+  private static double run(SharedStack stack, int threads, int operations) throws InterruptedException {
+    for(int i=0;i<INITIAL_ELEMENTS;i++) {
+      stack.push(i);
+    }
+
+    int perThread = operations / threads;
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(threads);
+    for(int t=0;t<threads;t++) {
+      Thread worker = new Thread(() -> {
+        try {
+          start.await();
+        } catch(InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for(int i=0;i<perThread;i+=2) {
+          Integer elem = stack.pop();
+          stack.push(elem == null ? i : elem);
+        }
+        done.countDown();
+      });
+      worker.start();
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    done.await();
+    long elapsed = System.nanoTime() - begin;
+    return (double) perThread * threads / (elapsed / 1e6);
+  }
+}
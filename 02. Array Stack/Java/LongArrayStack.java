@@ -0,0 +1,144 @@
+/**
+ * LongArrayStack is a class to represent an array stack data structure
+ * specialized for `long` elements. Elements are kept in a `long[]` which
+ * only grows, so once it is large enough push and pop never allocate.
+*/
+class LongArrayStack {
+  // To store default capacity of the stack.
+  private int DEFAULT_CAPACITY = 16;
+
+  // Stores the index of top most element in the array.
+  private int top;
+
+  // This is the actual array.
+  private long[] arr;
+
+  /**
+   * Public constructor to initialize LongArrayStack with default capacity.
+   */
+  public LongArrayStack() {
+    this.top = 0;
+    this.arr = new long[this.DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Public constructor to initialize LongArrayStack with given capacity.
+   */
+  public LongArrayStack(int capacity) {
+    this.top = 0;
+    this.arr = new long[Math.max(capacity, 1)];
+  }
+
+  /**
+   * Adds element to the stack.
+   *
+   * Complexity:
+   *   Average Case (Array don't need resizing) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
+   */
+  public void push(long elem) {
+    if(top == arr.length) {
+      grow();
+    }
+    arr[top++] = elem;
+  }
+
+  /**
+   * Internal method to double the capacity of the array. Kept out of `push`
+   * so the common path stays small enough to be inlined.
+   */
+  private void grow() {
+    long[] newArr = new long[arr.length * 2];
+    System.arraycopy(arr, 0, newArr, 0, top);
+    this.arr = newArr;
+  }
+
+  /**
+   * Removes the top element of the stack and returns it.
+   * Throws `IndexOutOfBoundsException` if stack is empty.
+   *
+   * Complexity: O(1)
+   */
+  public long pop() {
+    if(top <= 0) {
+      throw new IndexOutOfBoundsException("Stack is empty.");
+    }
+    return arr[--top];
+  }
+
+  /**
+   * Returns the top element of the stack without removing it.
+   * Throws `IndexOutOfBoundsException` if stack is empty.
+   *
+   * Complexity: O(1)
+   */
+  public long peek() {
+    if(top <= 0) {
+      throw new IndexOutOfBoundsException("Stack is empty.");
+    }
+    return arr[top - 1];
+  }
+
+  /**
+   * Returns `true` if the stack has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return top == 0;
+  }
+
+  /**
+   * Removes all the elements from the stack. The capacity is kept so the
+   * stack can be reused without allocating.
+   *
+   * Complexity: O(1)
+   */
+  public void clear() {
+    top = 0;
+  }
+
+  /**
+   * Returns `true` if the element exists inside the stack, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(long elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the index of the given element if exists, otherwise returns `-1`.
+   *
+   * Complexity: O(n)
+   */
+  public int indexOf(long elem) {
+    for(int i=0;i<top;i++) {
+      if(arr[i] == elem) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the size of the stack.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return top;
+  }
+
+  /**
+   * Displays the stack elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(int i=top - 1;i>=0;i--) {
+      System.out.println(arr[i]);
+    }
+    System.out.println();
+  }
+}
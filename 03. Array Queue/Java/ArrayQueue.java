@@ -1,3 +1,5 @@
+import java.util.Arrays;
+
 /**
  * ArrayQueue is a class to represent array queue data structure 
  * with various functionalities.
@@ -18,6 +20,12 @@ class ArrayQueue<T> {
   // This is the actual array.
   private T[] arr;
 
+  // Stores the metrics of the queue, `null` unless `enableMetrics` was called.
+  private QueueMetrics metrics;
+
+  // Stores the `System.nanoTime` at which the element in the same slot was queued.
+  private long[] enqueueTimes;
+
   /** 
    * Public constructor to initialize ArrayQueue with default size. 
    */
@@ -40,18 +48,63 @@ class ArrayQueue<T> {
 
   /** 
    * Adds element to the queue.
+   * When the end of the array is reached, the slots freed by `dequeue` are
+   * reclaimed by moving the elements to the front, or the array is doubled
+   * if it is more than half full.
    *
-   * Complexity: O(1)
+   * Complexity: 
+   *   Average Case (Array has free slots at the end) - O(1)
+   *   Worst Case (Array needs compacting or resizing) - O(n)
    */
   public void queue(T elem) {
     if(end >= capacity-1) {
-      throw new OutOfMemoryError("No free memory.");
+      makeRoom();
     }
     if(start == -1 && end == -1) {
       start = 0;
     }
 
     arr[++end] = elem;
+
+    if(metrics != null) {
+      enqueueTimes[end] = System.nanoTime();
+      metrics.recordEnqueue(1, size());
+    }
+  }
+
+  /**
+   * Internal method to free slots at the end of the array. Compacting only
+   * when at most half of the array is used keeps `queue` amortized O(1).
+   */
+  private void makeRoom() {
+    int count = size();
+    if(count > capacity / 2 || count == capacity) {
+      this.capacity = Math.max(this.capacity * 2, 1);
+      T[] newArr = (T[]) new Object[this.capacity];
+      if(count > 0) {
+        System.arraycopy(arr, start, newArr, 0, count);
+      }
+      this.arr = newArr;
+      if(metrics != null) {
+        long[] newTimes = new long[this.capacity];
+        if(count > 0) {
+          System.arraycopy(enqueueTimes, start, newTimes, 0, count);
+        }
+        this.enqueueTimes = newTimes;
+      }
+    } else {
+      if(count > 0) {
+        System.arraycopy(arr, start, arr, 0, count);
+        if(metrics != null) {
+          System.arraycopy(enqueueTimes, start, enqueueTimes, 0, count);
+        }
+      }
+      for(int i=count;i<=end;i++) {
+        arr[i] = null;
+      }
+    }
+    this.start = count > 0 ? 0 : -1;
+    this.end = count - 1;
   }
 
   /** 
@@ -65,6 +118,9 @@ class ArrayQueue<T> {
       return null;
     }
 
+    if(metrics != null) {
+      metrics.recordDequeue(System.nanoTime() - enqueueTimes[start]);
+    }
     return arr[start++];
   }
 
@@ -94,15 +150,40 @@ class ArrayQueue<T> {
   }
 
   /**
-   * Returns the size of the array.size
+   * Returns the number of elements in the queue.
    *
    * Complexity: O(1)
    */
   public int size() {
-    if(start == -1) {
+    if(start == -1 || start > end) {
       return 0;
     }
-    return end - start;
+    return end - start + 1;
+  }
+
+  /**
+   * Starts collecting metrics and returns them. Elements already in the
+   * queue count as queued now. Calling it again returns the same metrics.
+   * Without metrics the queue pays no timing cost.
+   *
+   * Complexity: O(n)
+   */
+  public QueueMetrics enableMetrics() {
+    if(metrics == null) {
+      enqueueTimes = new long[capacity];
+      Arrays.fill(enqueueTimes, System.nanoTime());
+      metrics = new QueueMetrics();
+    }
+    return metrics;
+  }
+
+  /**
+   * Returns the metrics of the queue, or `null` if they are not enabled.
+   *
+   * Complexity: O(1)
+   */
+  public QueueMetrics metrics() {
+    return metrics;
   }
 
   /**
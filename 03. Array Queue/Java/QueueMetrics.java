@@ -0,0 +1,185 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueueMetrics is a class which collects metrics of a queue: the number of
+ * enqueued and dequeued elements, the highest size reached, the enqueue and
+ * dequeue rates, and a histogram of the time elements spent in the queue
+ * (sojourn time).
+ *
+ * The counters are striped (`LongAdder`) and the histogram is a fixed array
+ * of counters, so recording never allocates or locks and the metrics can be
+ * read from a monitoring thread while the queue is in use.
+*/
+class QueueMetrics {
+  // Number of bits used for the sub-buckets of every power of two.
+  private static final int SUB_BUCKET_BITS = 4;
+
+  // Stores the number of sub-buckets of every power of two.
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  // Stores the number of histogram buckets needed for any non-negative long.
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  // Stores the number of enqueued elements.
+  private final LongAdder enqueued = new LongAdder();
+
+  // Stores the number of dequeued elements.
+  private final LongAdder dequeued = new LongAdder();
+
+  // Stores the highest size the queue has reached.
+  private volatile int highWaterMark;
+
+  // Stores the number of dequeued elements per sojourn time bucket.
+  private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+  // Stores the state of the last rate sample.
+  private long sampleTime = System.nanoTime();
+  private long sampleEnqueued;
+  private long sampleDequeued;
+  private volatile double enqueueRate;
+  private volatile double dequeueRate;
+
+  /**
+   * Records that `count` elements were enqueued, after which the queue holds
+   * `size` elements.
+   *
+   * Complexity: O(1)
+   */
+  public void recordEnqueue(int count, int size) {
+    enqueued.add(count);
+    if(size > highWaterMark) {
+      highWaterMark = size;
+    }
+  }
+
+  /**
+   * Records that an element was dequeued after spending the given number of
+   * nanoseconds in the queue.
+   *
+   * Complexity: O(1)
+   */
+  public void recordDequeue(long sojournNanos) {
+    dequeued.increment();
+    histogram.incrementAndGet(bucketOf(Math.max(sojournNanos, 0)));
+  }
+
+  /**
+   * Internal method to return the histogram bucket of the given value.
+   * Values below 16 get their own bucket; above that every power of two is
+   * split into 16 buckets, which keeps the error of a value below 1/16.
+   */
+  private static int bucketOf(long value) {
+    if(value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /**
+   * Internal method to return the highest value of the given histogram bucket.
+   */
+  private static long highestValueOf(int bucket) {
+    if(bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowest = ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Returns the number of enqueued elements.
+   */
+  public long enqueued() {
+    return enqueued.sum();
+  }
+
+  /**
+   * Returns the number of dequeued elements.
+   */
+  public long dequeued() {
+    return dequeued.sum();
+  }
+
+  /**
+   * Returns the highest size the queue has reached.
+   */
+  public int highWaterMark() {
+    return highWaterMark;
+  }
+
+  /**
+   * Computes the enqueue and dequeue rates since the previous sample.
+   * Meant to be called periodically, for example once per second, by a
+   * single monitoring thread.
+   */
+  public synchronized void sampleRates() {
+    long now = System.nanoTime();
+    long currentEnqueued = enqueued.sum();
+    long currentDequeued = dequeued.sum();
+    double seconds = (now - sampleTime) / 1e9;
+    if(seconds > 0) {
+      enqueueRate = (currentEnqueued - sampleEnqueued) / seconds;
+      dequeueRate = (currentDequeued - sampleDequeued) / seconds;
+    }
+    sampleTime = now;
+    sampleEnqueued = currentEnqueued;
+    sampleDequeued = currentDequeued;
+  }
+
+  /**
+   * Returns the enqueued elements per second measured by the last sample.
+   */
+  public double enqueueRate() {
+    return enqueueRate;
+  }
+
+  /**
+   * Returns the dequeued elements per second measured by the last sample.
+   */
+  public double dequeueRate() {
+    return dequeueRate;
+  }
+
+  /**
+   * Returns the sojourn time in nanoseconds below which the given percentage
+   * (0 to 100) of the dequeued elements fall. Returns `0` if nothing was
+   * dequeued yet.
+   *
+   * Complexity: O(1), the histogram has a fixed number of buckets.
+   */
+  public long sojournPercentile(double percentile) {
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for(int i=0;i<BUCKETS;i++) {
+      counts[i] = histogram.get(i);
+      total += counts[i];
+    }
+    if(total == 0) {
+      return 0;
+    }
+
+    long target = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100));
+    long seen = 0;
+    for(int i=0;i<BUCKETS;i++) {
+      seen += counts[i];
+      if(seen >= target) {
+        return highestValueOf(i);
+      }
+    }
+    return highestValueOf(BUCKETS - 1);
+  }
+
+  /**
+   * Displays the metrics.
+   */
+  public void display() {
+    System.out.println("enqueued: " + enqueued() + ", dequeued: " + dequeued() + ", high water mark: " + highWaterMark);
+    System.out.println(String.format("enqueue rate: %.1f/s, dequeue rate: %.1f/s", enqueueRate, dequeueRate));
+    System.out.println("sojourn p50: " + sojournPercentile(50) + " ns, p99: " + sojournPercentile(99)
+        + " ns, p99.9: " + sojournPercentile(99.9) + " ns, max: " + sojournPercentile(100) + " ns");
+  }
+}
@@ -1,6 +1,9 @@
+import java.util.Arrays;
+import java.util.function.Consumer;
+
 /**
  * ArrayQueue is a class to represent circular array queue data structure 
- * with various functionalities.
+ * with various functionalities. The array doubles when the queue is full.
 */
 class ArrayQueue<T> {
   // To store default capacity of the queue.
@@ -18,6 +21,12 @@ class ArrayQueue<T> {
   // This is the actual array.
   private T[] arr;
 
+  // Stores the metrics of the queue, `null` unless `enableMetrics` was called.
+  private QueueMetrics metrics;
+
+  // Stores the `System.nanoTime` at which the element in the same slot was queued.
+  private long[] enqueueTimes;
+
   /** 
    * Public constructor to initialize ArrayQueue with default size. 
    */
@@ -39,13 +48,15 @@ class ArrayQueue<T> {
   }
 
   /** 
-   * Adds element to the queue.
+   * Adds element to the queue. A full queue doubles its array first.
    *
-   * Complexity: O(1)
+   * Complexity: 
+   *   Average Case (Array has free slots) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
    */
   public void queue(T elem) {
-    if((start < end && (end - start) >= capacity -1) || (end < start && (start - end) == 1)) {
-      throw new OutOfMemoryError("No free memory.");
+    if(count() == capacity) {
+      grow(capacity + 1);
     }
 
     if(start == -1 && end == -1) {
@@ -54,6 +65,47 @@ class ArrayQueue<T> {
 
     end = (end + 1) % capacity;
     arr[end] = elem;
+
+    if(metrics != null) {
+      enqueueTimes[end] = System.nanoTime();
+      metrics.recordEnqueue(1, count());
+    }
+  }
+
+  /** 
+   * Adds all the elements of the given batch to the queue, in order.
+   * The free part of the ring is filled with at most two block copies,
+   * after growing the array once if the whole batch does not fit.
+   *
+   * Complexity: O(m), where `m` is the number of added elements, plus O(n)
+   * if the array needs resizing.
+   */
+  public void queueAll(T[] batch) {
+    int count = batch.length;
+    if(count == 0) {
+      return;
+    }
+    if((long) count() + count > capacity) {
+      grow((long) count() + count);
+    }
+
+    int next = start == -1 ? 0 : (end + 1) % capacity;
+    int firstPart = Math.min(count, capacity - next);
+    System.arraycopy(batch, 0, arr, next, firstPart);
+    System.arraycopy(batch, firstPart, arr, 0, count - firstPart);
+
+    if(start == -1) {
+      start = next;
+    }
+    end = (next + count - 1) % capacity;
+
+    if(metrics != null) {
+      // The whole batch shares one timestamp.
+      long now = System.nanoTime();
+      Arrays.fill(enqueueTimes, next, next + firstPart, now);
+      Arrays.fill(enqueueTimes, 0, count - firstPart, now);
+      metrics.recordEnqueue(count, count());
+    }
   }
 
   /** 
@@ -67,6 +119,9 @@ class ArrayQueue<T> {
       return null;
     }
     T removedElem = arr[start];
+    if(metrics != null) {
+      metrics.recordDequeue(System.nanoTime() - enqueueTimes[start]);
+    }
 
     if(start == end) {
       start = -1;
@@ -78,6 +133,113 @@ class ArrayQueue<T> {
     return removedElem;
   }
 
+  /** 
+   * Removes up to `maxItems` elements from the start of the queue and passes
+   * them to the consumer in order. Returns the number of removed elements.
+   * The ring is walked as at most two contiguous segments, so there is no
+   * wraparound check per element.
+   *
+   * Complexity: O(m), where `m` is the number of removed elements.
+   */
+  public int drain(Consumer<? super T> consumer, int maxItems) {
+    int count = Math.min(count(), maxItems);
+    if(count <= 0) {
+      return 0;
+    }
+
+    int firstPart = Math.min(count, capacity - start);
+    for(int i=start;i<start + firstPart;i++) {
+      consumer.accept(arr[i]);
+    }
+    for(int i=0;i<count - firstPart;i++) {
+      consumer.accept(arr[i]);
+    }
+    advanceStart(count);
+    return count;
+  }
+
+  /** 
+   * Removes elements from the start of the queue into `dst` until either the
+   * queue is empty or `dst` is full. Returns the number of removed elements.
+   * The elements are moved with at most two block copies.
+   *
+   * Complexity: O(m), where `m` is the number of removed elements.
+   */
+  public int drainTo(T[] dst) {
+    int count = Math.min(count(), dst.length);
+    if(count <= 0) {
+      return 0;
+    }
+
+    int firstPart = Math.min(count, capacity - start);
+    System.arraycopy(arr, start, dst, 0, firstPart);
+    System.arraycopy(arr, 0, dst, firstPart, count - firstPart);
+    advanceStart(count);
+    return count;
+  }
+
+  /**
+   * Internal method to grow the array to at least `minCapacity` slots,
+   * doubling it when that is enough. The ring is unwrapped, so the first
+   * element ends up at index 0.
+   */
+  private void grow(long minCapacity) {
+    if(minCapacity > Integer.MAX_VALUE - 8) {
+      throw new OutOfMemoryError("No free memory.");
+    }
+    int newCapacity = (int) Math.max(minCapacity, Math.min(Integer.MAX_VALUE - 8, (long) capacity * 2));
+    int count = count();
+    T[] newArr = (T[]) new Object[newCapacity];
+    if(count > 0) {
+      int firstPart = Math.min(count, capacity - start);
+      System.arraycopy(arr, start, newArr, 0, firstPart);
+      System.arraycopy(arr, 0, newArr, firstPart, count - firstPart);
+      if(metrics != null) {
+        long[] newTimes = new long[newCapacity];
+        System.arraycopy(enqueueTimes, start, newTimes, 0, firstPart);
+        System.arraycopy(enqueueTimes, 0, newTimes, firstPart, count - firstPart);
+        this.enqueueTimes = newTimes;
+      }
+      this.start = 0;
+      this.end = count - 1;
+    } else if(metrics != null) {
+      this.enqueueTimes = new long[newCapacity];
+    }
+    this.arr = newArr;
+    this.capacity = newCapacity;
+  }
+
+  /**
+   * Internal method to remove `count` elements from the start of the queue.
+   */
+  private void advanceStart(int count) {
+    if(metrics != null) {
+      long now = System.nanoTime();
+      for(int i=0;i<count;i++) {
+        metrics.recordDequeue(now - enqueueTimes[(start + i) % capacity]);
+      }
+    }
+    if(count == count()) {
+      start = -1;
+      end = -1;
+    } else {
+      start = (start + count) % capacity;
+    }
+  }
+
+  /**
+   * Internal method to return the number of elements in the queue.
+   */
+  private int count() {
+    if(start == -1) {
+      return 0;
+    }
+    if(end >= start) {
+      return end - start + 1;
+    }
+    return capacity - start + end + 1;
+  }
+
   /**
    * Returns `true` if the element exists inside the array, otherwise returns `false`.
    *
@@ -110,15 +272,37 @@ class ArrayQueue<T> {
   }
 
   /**
-   * Returns the size of the array.size
+   * Returns the number of elements in the queue.
    *
    * Complexity: O(1)
    */
   public int size() {
-    if(start == -1) {
-      return 0;
+    return count();
+  }
+
+  /**
+   * Starts collecting metrics and returns them. Elements already in the
+   * queue count as queued now. Calling it again returns the same metrics.
+   * Without metrics the queue pays no timing cost.
+   *
+   * Complexity: O(n)
+   */
+  public QueueMetrics enableMetrics() {
+    if(metrics == null) {
+      enqueueTimes = new long[capacity];
+      Arrays.fill(enqueueTimes, System.nanoTime());
+      metrics = new QueueMetrics();
     }
-    return Math.abs(end - start);
+    return metrics;
+  }
+
+  /**
+   * Returns the metrics of the queue, or `null` if they are not enabled.
+   *
+   * Complexity: O(1)
+   */
+  public QueueMetrics metrics() {
+    return metrics;
   }
 
   /**
@@ -0,0 +1,250 @@
+/**
+ * GrowableArrayQueue is a class to represent circular array queue data
+ * structure which grows instead of running out of space. Elements can be
+ * added and removed at both ends, like a deque.
+ *
+ * The capacity is a power of two, so slots are found with a mask instead of
+ * `%`. When the array is full, the ring is unwrapped into an array of double
+ * the size with at most two block copies. Optionally the array is halved
+ * again once it becomes sparse.
+*/
+class GrowableArrayQueue<T> {
+  // To store default capacity of the queue.
+  private int DEFAULT_CAPACITY = 16;
+
+  // Stores the index of the first element in queue.
+  private int start;
+
+  // Stores the number of elements in queue.
+  private int size;
+
+  // Stores the capacity the queue never shrinks below.
+  private int minCapacity;
+
+  // Stores whether the queue shrinks itself when it becomes sparse.
+  private boolean shrinkWhenSparse;
+
+  // This is the actual array, its length is always a power of two.
+  private T[] arr;
+
+  /**
+   * Public constructor to initialize GrowableArrayQueue with default capacity.
+   */
+  public GrowableArrayQueue() {
+    this.start = 0;
+    this.size = 0;
+    this.minCapacity = this.DEFAULT_CAPACITY;
+    this.shrinkWhenSparse = false;
+    this.arr = (T[]) new Object[minCapacity];
+  }
+
+  /**
+   * Public constructor to initialize GrowableArrayQueue with given capacity.
+   * The capacity is rounded up to the next power of two.
+   */
+  public GrowableArrayQueue(int capacity) {
+    this(capacity, false);
+  }
+
+  /**
+   * Public constructor to initialize GrowableArrayQueue with given capacity,
+   * which also halves the array whenever it is at most a quarter full.
+   * The queue never shrinks below the initial capacity.
+   */
+  public GrowableArrayQueue(int capacity, boolean shrinkWhenSparse) {
+    this.start = 0;
+    this.size = 0;
+    this.minCapacity = nextPowerOfTwo(capacity);
+    this.shrinkWhenSparse = shrinkWhenSparse;
+    this.arr = (T[]) new Object[minCapacity];
+  }
+
+  /**
+   * Internal method to round the given capacity up to a power of two.
+   */
+  private static int nextPowerOfTwo(int capacity) {
+    if(capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must not exceed 2^30.");
+    }
+    return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  /**
+   * Adds element at the end of the queue.
+   *
+   * Complexity:
+   *   Average Case (Array don't need resizing) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
+   */
+  public void queue(T elem) {
+    if(size == arr.length) {
+      resize(arr.length * 2);
+    }
+    arr[(start + size) & (arr.length - 1)] = elem;
+    size++;
+  }
+
+  /**
+   * Adds element at the start of the queue.
+   *
+   * Complexity:
+   *   Average Case (Array don't need resizing) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
+   */
+  public void queueFirst(T elem) {
+    if(size == arr.length) {
+      resize(arr.length * 2);
+    }
+    start = (start - 1) & (arr.length - 1);
+    arr[start] = elem;
+    size++;
+  }
+
+  /**
+   * Removes first element from the queue and returns it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1), amortized when shrinking is enabled.
+   */
+  public T dequeue() {
+    if(size == 0) {
+      return null;
+    }
+    T removedElem = arr[start];
+    arr[start] = null;
+    start = (start + 1) & (arr.length - 1);
+    size--;
+    shrinkIfSparse();
+    return removedElem;
+  }
+
+  /**
+   * Removes last element from the queue and returns it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1), amortized when shrinking is enabled.
+   */
+  public T dequeueLast() {
+    if(size == 0) {
+      return null;
+    }
+    int index = (start + size - 1) & (arr.length - 1);
+    T removedElem = arr[index];
+    arr[index] = null;
+    size--;
+    shrinkIfSparse();
+    return removedElem;
+  }
+
+  /**
+   * Returns first element of the queue without removing it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peek() {
+    return size == 0 ? null : arr[start];
+  }
+
+  /**
+   * Returns last element of the queue without removing it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peekLast() {
+    return size == 0 ? null : arr[(start + size - 1) & (arr.length - 1)];
+  }
+
+  /**
+   * Internal method to halve the array once it is at most a quarter full.
+   */
+  private void shrinkIfSparse() {
+    if(shrinkWhenSparse && arr.length > minCapacity && size <= arr.length / 4) {
+      resize(arr.length / 2);
+    }
+  }
+
+  /**
+   * Internal method to unwrap the ring into a new array of the given
+   * capacity, so the first element ends up at index 0.
+   */
+  private void resize(int newCapacity) {
+    if(newCapacity <= 0) {
+      throw new OutOfMemoryError("No free memory.");
+    }
+    T[] newArr = (T[]) new Object[newCapacity];
+    int firstPart = Math.min(size, arr.length - start);
+    System.arraycopy(arr, start, newArr, 0, firstPart);
+    System.arraycopy(arr, 0, newArr, firstPart, size - firstPart);
+    this.arr = newArr;
+    this.start = 0;
+  }
+
+  /**
+   * Returns `true` if the element exists inside the queue, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(T elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the position of the given element counted from the start of
+   * the queue if exists, otherwise returns `-1`.
+   *
+   * Complexity: O(n)
+   */
+  public int indexOf(T elem) {
+    int mask = arr.length - 1;
+    for(int i=0;i<size;i++) {
+      if(elem.equals(arr[(start + i) & mask])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the size of the queue.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns `true` if the queue has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of elements the queue can store before growing.
+   *
+   * Complexity: O(1)
+   */
+  public int capacity() {
+    return arr.length;
+  }
+
+  /**
+   * Displays the queue elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    if(size > 0) {
+      int mask = arr.length - 1;
+      for(int i=0;i<size;i++) {
+        System.out.println(arr[(start + i) & mask].toString());
+      }
+      System.out.println();
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/**
+ * LongRingQueue is a class to represent circular array queue data structure
+ * specialized for `long` elements. Elements are kept in a `long[]`, so no
+ * operation boxes or allocates.
+ *
+ * Instead of `start`/`end` with a `-1` sentinel, the queue keeps two
+ * counters which only ever increase. The capacity is a power of two, so the
+ * slot of a counter is found with a mask, and the size is `tail - head`
+ * even after the counters overflow.
+*/
+class LongRingQueue {
+  // To store default capacity of the queue.
+  private int DEFAULT_CAPACITY = 16;
+
+  // Stores the counter of the first element in queue.
+  private int head;
+
+  // Stores the counter of the slot after the last element in queue.
+  private int tail;
+
+  // Mask to get the slot of a counter.
+  private int mask;
+
+  // This is the actual array.
+  private long[] arr;
+
+  /**
+   * Public constructor to initialize LongRingQueue with default capacity.
+   */
+  public LongRingQueue() {
+    this.arr = new long[this.DEFAULT_CAPACITY];
+    this.mask = arr.length - 1;
+  }
+
+  /**
+   * Public constructor to initialize LongRingQueue with given capacity.
+   * The capacity is rounded up to the next power of two.
+   */
+  public LongRingQueue(int capacity) {
+    if(capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must not exceed 2^30.");
+    }
+    this.arr = new long[capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+    this.mask = arr.length - 1;
+  }
+
+  /**
+   * Adds element to the queue.
+   * Throws `OutOfMemoryError` if the queue is full.
+   *
+   * Complexity: O(1)
+   */
+  public void queue(long elem) {
+    if(!offer(elem)) {
+      throw new OutOfMemoryError("No free memory.");
+    }
+  }
+
+  /**
+   * Adds element to the queue.
+   * Returns `false` if the queue is full.
+   *
+   * Complexity: O(1)
+   */
+  public boolean offer(long elem) {
+    if(tail - head == arr.length) {
+      return false;
+    }
+    arr[tail & mask] = elem;
+    tail++;
+    return true;
+  }
+
+  /**
+   * Removes first element from the queue and returns it.
+   * Returns `emptyValue` if queue is empty, so callers pick a value which
+   * can never be queued (for example `-1` for sequence ids).
+   *
+   * Complexity: O(1)
+   */
+  public long dequeue(long emptyValue) {
+    if(head == tail) {
+      return emptyValue;
+    }
+    return arr[head++ & mask];
+  }
+
+  /**
+   * Returns first element of the queue without removing it.
+   * Returns `emptyValue` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  public long peek(long emptyValue) {
+    if(head == tail) {
+      return emptyValue;
+    }
+    return arr[head & mask];
+  }
+
+  /**
+   * Returns `true` if the element exists inside the queue, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(long elem) {
+    return this.indexOf(elem) != -1;
+  }
+
+  /**
+   * Returns the position of the given element counted from the start of
+   * the queue if exists, otherwise returns `-1`.
+   *
+   * Complexity: O(n)
+   */
+  public int indexOf(long elem) {
+    int count = tail - head;
+    for(int i=0;i<count;i++) {
+      if(arr[(head + i) & mask] == elem) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the size of the queue.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return tail - head;
+  }
+
+  /**
+   * Returns `true` if the queue has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return head == tail;
+  }
+
+  /**
+   * Returns the capacity of the queue.
+   *
+   * Complexity: O(1)
+   */
+  public int capacity() {
+    return arr.length;
+  }
+
+  /**
+   * Displays the queue elements.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    if(head != tail) {
+      for(int i=head;i!=tail;i++) {
+        System.out.println(arr[i & mask]);
+      }
+      System.out.println();
+    }
+  }
+}
@@ -0,0 +1,520 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MpmcBlockingQueue is a class to represent a bounded circular queue which
+ * can be shared by any number of producer and consumer threads.
+ *
+ * Every slot of the circular array has a sequence number (Vyukov's bounded
+ * queue). A producer claims the slot at `tail` when its sequence equals
+ * `tail`, and a consumer claims the slot at `head` when its sequence equals
+ * `head + 1`. Claiming is a single CAS, so `offer` and `poll` never lock.
+ *
+ * The lock and conditions are only used by threads which have to wait. A
+ * thread only signals when it sees a waiter, so the fast path stays free
+ * of locking.
+ *
+ * `remove(Object)` replaces the element in its slot with a marker, which
+ * consumers skip, so removal keeps the order of the other elements and
+ * never blocks. The slot is freed once a consumer passes it.
+*/
+class MpmcBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+  // Used to access the slots atomically, so a consumer and `remove` never
+  // both take the same element.
+  private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  // Marks a slot whose element was taken out by `remove`.
+  private static final Object REMOVED = new Object();
+
+  // Stores the capacity of the queue, always a power of two.
+  private final int capacity;
+
+  // Mask to get the slot of a sequence.
+  private final int mask;
+
+  // This is the actual array.
+  private final Object[] arr;
+
+  // Stores the sequence number of every slot.
+  private final AtomicLongArray sequences;
+
+  // Stores the sequence of the next slot to write.
+  private final AtomicLong tail = new AtomicLong();
+
+  // Stores the sequence of the next slot to read.
+  private final AtomicLong head = new AtomicLong();
+
+  // Stores the number of slots marked by `remove` which no consumer passed yet.
+  private final AtomicLong removedSlots = new AtomicLong();
+
+  // Lock used only by threads which have to wait.
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // Signalled when an element is added.
+  private final Condition notEmpty = lock.newCondition();
+
+  // Signalled when an element is removed.
+  private final Condition notFull = lock.newCondition();
+
+  // Stores the number of consumers waiting on `notEmpty`.
+  private volatile int waitingConsumers;
+
+  // Stores the number of producers waiting on `notFull`.
+  private volatile int waitingProducers;
+
+  /**
+   * Public constructor to initialize MpmcBlockingQueue with given capacity.
+   * The capacity is rounded up to the next power of two.
+   */
+  public MpmcBlockingQueue(int capacity) {
+    if(capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+    }
+    this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.arr = new Object[this.capacity];
+    this.sequences = new AtomicLongArray(this.capacity);
+    for(int i=0;i<this.capacity;i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Internal method to add the element without waiting or signalling.
+   * Returns `false` if the queue is full.
+   */
+  private boolean tryOffer(T elem) {
+    long position = tail.get();
+    while(true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if(difference == 0) {
+        if(tail.compareAndSet(position, position + 1)) {
+          arr[index] = elem;
+          // Volatile store, so the waiter check after it cannot be reordered before it.
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if(difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Internal method to remove the first element without waiting or
+   * signalling. Returns `null` if the queue is empty.
+   */
+  private T tryPoll() {
+    long position = head.get();
+    while(true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if(difference == 0) {
+        if(head.compareAndSet(position, position + 1)) {
+          Object removedElem = ELEMENT.getAndSet(arr, index, null);
+          sequences.set(index, position + mask + 1);
+          if(removedElem != REMOVED) {
+            return (T) removedElem;
+          }
+          // Skip the element taken out by `remove`; its slot is free now.
+          removedSlots.decrementAndGet();
+          signalNotFull();
+        }
+        position = head.get();
+      } else if(difference < 0) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  /**
+   * Internal method to wake up a waiting consumer, if there is one.
+   */
+  private void signalNotEmpty() {
+    if(waitingConsumers > 0) {
+      lock.lock();
+      try {
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Internal method to wake up a waiting producer, if there is one.
+   */
+  private void signalNotFull() {
+    if(waitingProducers > 0) {
+      lock.lock();
+      try {
+        notFull.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Adds element to the queue if there is space.
+   * Returns `false` if the queue is full.
+   *
+   * Complexity: O(1)
+   */
+  @Override
+  public boolean offer(T elem) {
+    if(elem == null) {
+      throw new NullPointerException();
+    }
+    if(!tryOffer(elem)) {
+      return false;
+    }
+    signalNotEmpty();
+    return true;
+  }
+
+  /**
+   * Adds element to the queue, waiting up to the given time for space.
+   * Returns `false` if the queue is still full after the timeout.
+   */
+  @Override
+  public boolean offer(T elem, long timeout, TimeUnit unit) throws InterruptedException {
+    if(elem == null) {
+      throw new NullPointerException();
+    }
+    if(tryOffer(elem)) {
+      signalNotEmpty();
+      return true;
+    }
+
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      waitingProducers++;
+      try {
+        while(!tryOffer(elem)) {
+          if(nanos <= 0) {
+            return false;
+          }
+          nanos = notFull.awaitNanos(nanos);
+        }
+      } finally {
+        waitingProducers--;
+      }
+    } finally {
+      lock.unlock();
+    }
+    signalNotEmpty();
+    return true;
+  }
+
+  /**
+   * Adds element to the queue, waiting for space if necessary.
+   */
+  @Override
+  public void put(T elem) throws InterruptedException {
+    if(elem == null) {
+      throw new NullPointerException();
+    }
+    if(tryOffer(elem)) {
+      signalNotEmpty();
+      return;
+    }
+
+    lock.lockInterruptibly();
+    try {
+      waitingProducers++;
+      try {
+        while(!tryOffer(elem)) {
+          notFull.await();
+        }
+      } finally {
+        waitingProducers--;
+      }
+    } finally {
+      lock.unlock();
+    }
+    signalNotEmpty();
+  }
+
+  /**
+   * Removes first element from the queue and returns it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  @Override
+  public T poll() {
+    T removedElem = tryPoll();
+    if(removedElem != null) {
+      signalNotFull();
+    }
+    return removedElem;
+  }
+
+  /**
+   * Removes first element from the queue, waiting up to the given time for
+   * one to arrive. Returns `null` if the queue is still empty after the timeout.
+   */
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    T removedElem = tryPoll();
+    if(removedElem == null) {
+      long nanos = unit.toNanos(timeout);
+      lock.lockInterruptibly();
+      try {
+        waitingConsumers++;
+        try {
+          while((removedElem = tryPoll()) == null) {
+            if(nanos <= 0) {
+              return null;
+            }
+            nanos = notEmpty.awaitNanos(nanos);
+          }
+        } finally {
+          waitingConsumers--;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    signalNotFull();
+    return removedElem;
+  }
+
+  /**
+   * Removes first element from the queue, waiting for one if necessary.
+   */
+  @Override
+  public T take() throws InterruptedException {
+    T removedElem = tryPoll();
+    if(removedElem == null) {
+      lock.lockInterruptibly();
+      try {
+        waitingConsumers++;
+        try {
+          while((removedElem = tryPoll()) == null) {
+            notEmpty.await();
+          }
+        } finally {
+          waitingConsumers--;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    signalNotFull();
+    return removedElem;
+  }
+
+  /**
+   * Returns the first element of the queue without removing it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1), plus the number of removed elements skipped.
+   */
+  @Override
+  public T peek() {
+    Iterator<T> iterator = iterator();
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  /**
+   * Returns `true` if the queue has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1), plus the number of removed elements skipped.
+   */
+  @Override
+  public boolean isEmpty() {
+    return peek() == null;
+  }
+
+  /**
+   * Removes the first occurrence of the given element from the queue.
+   * Returns `true` if it was found, otherwise returns `false`.
+   * The slot is marked instead of moving the elements after it, so
+   * consumers and producers are never blocked.
+   *
+   * Complexity: O(n)
+   */
+  @Override
+  public boolean remove(Object o) {
+    if(o == null) {
+      return false;
+    }
+    for(long position=head.get();position<tail.get();position++) {
+      int index = (int) position & mask;
+      if(sequences.get(index) != position + 1) {
+        continue;
+      }
+      Object elem = ELEMENT.getVolatile(arr, index);
+      if(elem != null && elem != REMOVED && o.equals(elem) && removeAt(position, elem)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Internal method to mark the given element, queued at the given
+   * position, as removed. Returns `false` if it is no longer there.
+   */
+  private boolean removeAt(long position, Object elem) {
+    int index = (int) position & mask;
+    if(!ELEMENT.compareAndSet(arr, index, elem, REMOVED)) {
+      return false;
+    }
+    // If the slot moved on meanwhile, the marker may sit on an element which
+    // is not published yet; put it back unless a consumer already skipped it.
+    if(sequences.get(index) != position + 1 && ELEMENT.compareAndSet(arr, index, REMOVED, elem)) {
+      return false;
+    }
+    removedSlots.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Removes all the available elements and adds them to the given collection.
+   * Returns the number of elements moved.
+   */
+  @Override
+  public int drainTo(Collection<? super T> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Removes at most `maxElements` available elements and adds them to the
+   * given collection. Returns the number of elements moved.
+   */
+  @Override
+  public int drainTo(Collection<? super T> c, int maxElements) {
+    if(c == this) {
+      throw new IllegalArgumentException();
+    }
+    int count = 0;
+    T elem;
+    while(count < maxElements && (elem = tryPoll()) != null) {
+      c.add(elem);
+      count++;
+    }
+    if(count > 0 && waitingProducers > 0) {
+      lock.lock();
+      try {
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the size of the queue. The result is only a snapshot when other
+   * threads modify the queue concurrently.
+   *
+   * Complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return (int) Math.max(0, usedSlots() - removedSlots.get());
+  }
+
+  /**
+   * Internal method to return the number of slots holding an element or a
+   * marker of a removed one.
+   */
+  private long usedSlots() {
+    while(true) {
+      long currentHead = head.get();
+      long currentTail = tail.get();
+      if(head.get() == currentHead) {
+        return Math.max(0, Math.min(capacity, currentTail - currentHead));
+      }
+    }
+  }
+
+  /**
+   * Returns the number of elements which can be added without waiting.
+   * Slots of removed elements only count once a consumer has passed them.
+   *
+   * Complexity: O(1)
+   */
+  @Override
+  public int remainingCapacity() {
+    return (int) (capacity - usedSlots());
+  }
+
+  /**
+   * Returns a weakly consistent iterator over the elements. It reports the
+   * elements which were in the queue when it reached them. Its `remove`
+   * marks the slot of the last returned element, if it is still queued.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private long position = head.get();
+      private long nextPosition;
+      private long lastPosition;
+      private T lastElem;
+      private T nextElem = advance();
+
+      private T advance() {
+        while(true) {
+          long currentHead = head.get();
+          if(position < currentHead) {
+            position = currentHead;
+          }
+          if(position >= tail.get()) {
+            return null;
+          }
+          int index = (int) position & mask;
+          Object elem = ELEMENT.getVolatile(arr, index);
+          boolean stillQueued = sequences.get(index) == position + 1;
+          position++;
+          if(elem != null && elem != REMOVED && stillQueued) {
+            nextPosition = position - 1;
+            return (T) elem;
+          }
+        }
+      }
+
+      public boolean hasNext() {
+        return nextElem != null;
+      }
+
+      public T next() {
+        if(nextElem == null) {
+          throw new NoSuchElementException();
+        }
+        lastElem = nextElem;
+        lastPosition = nextPosition;
+        nextElem = advance();
+        return lastElem;
+      }
+
+      public void remove() {
+        if(lastElem == null) {
+          throw new IllegalStateException();
+        }
+        removeAt(lastPosition, lastElem);
+        lastElem = null;
+      }
+    };
+  }
+}
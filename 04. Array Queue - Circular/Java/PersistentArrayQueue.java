@@ -0,0 +1,260 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * PersistentArrayQueue is a class to represent a queue of byte messages
+ * which survives restarts. Messages are appended to memory-mapped segment
+ * files of a fixed size, and a new segment is started when the current one
+ * is full. The position of the reader is kept in a separate mapped cursor
+ * file, so a restarted reader resumes from its last committed position.
+ *
+ * Record layout inside a segment: an `int` holding `length + 1`, an `int`
+ * holding the CRC32C of the message, and the bytes of the message. A `0`
+ * marks the end of the written data and `-1` marks that the writer moved on
+ * to the next segment.
+ *
+ * After an OS crash or power loss the pages of a record may have reached
+ * the disk only partly, so a record whose length or checksum does not add
+ * up is treated as the end of the written data and is overwritten by the
+ * next `queue`.
+ *
+ * Like ArrayQueue, this class is not thread-safe.
+*/
+class PersistentArrayQueue implements Closeable {
+  // Marks that the rest of the segment is unused and the next one follows.
+  private static final int END_OF_SEGMENT = -1;
+
+  // Stores the number of bytes of a record header.
+  private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+  // Stores the offset of the checksum inside a record header.
+  private static final int CHECKSUM_OFFSET = Integer.BYTES;
+
+  // To store default size of a segment file in bytes.
+  private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  // Stores the directory holding the segment files.
+  private final Path directory;
+
+  // Stores the size of every segment file in bytes.
+  private final int segmentSize;
+
+  // Stores the number and mapping of the segment being written.
+  private long writeSegment;
+  private MappedByteBuffer writeBuffer;
+
+  // Stores the offset in the write segment where the next record goes.
+  private int writeOffset;
+
+  // Stores the number and mapping of the segment being read.
+  private long readSegment;
+  private MappedByteBuffer readBuffer;
+
+  // Stores the offset in the read segment of the next record to read.
+  private int readOffset;
+
+  // Stores the mapping of the cursor file, holding the committed read segment and offset.
+  private MappedByteBuffer cursor;
+
+  /**
+   * Public constructor to open or create the queue in the given directory
+   * with default segment size.
+   */
+  public PersistentArrayQueue(String directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Public constructor to open or create the queue in the given directory.
+   * The segment size must match the one the queue was created with.
+   */
+  public PersistentArrayQueue(String directory, int segmentSize) throws IOException {
+    if(segmentSize < 2 * HEADER_SIZE) {
+      throw new IllegalArgumentException("Segment size is too small.");
+    }
+    this.directory = new File(directory).toPath();
+    this.segmentSize = segmentSize;
+    Files.createDirectories(this.directory);
+
+    this.cursor = map(this.directory.resolve("cursor.dat"), Long.BYTES + Integer.BYTES);
+    this.readSegment = cursor.getLong(0);
+    this.readOffset = cursor.getInt(Long.BYTES);
+    this.readBuffer = mapSegment(readSegment);
+
+    // Find the end of the written data in the last segment.
+    this.writeSegment = readSegment;
+    while(Files.exists(segmentPath(writeSegment + 1))) {
+      writeSegment++;
+    }
+    this.writeBuffer = writeSegment == readSegment ? readBuffer : mapSegment(writeSegment);
+    this.writeOffset = writeSegment == readSegment ? readOffset : 0;
+    int length;
+    while((length = recordLength(writeBuffer, writeOffset)) >= 0) {
+      writeOffset += HEADER_SIZE + length;
+    }
+  }
+
+  /**
+   * Internal method to return the length of the message of the record at
+   * the given offset, or `-1` if there is no complete record there.
+   */
+  private int recordLength(MappedByteBuffer buffer, int offset) {
+    int header = buffer.getInt(offset);
+    if(header <= 0 || header - 1 > segmentSize - HEADER_SIZE - offset) {
+      return -1;
+    }
+    int length = header - 1;
+    int checksum = checksum(buffer, offset + HEADER_SIZE, length);
+    return checksum == buffer.getInt(offset + CHECKSUM_OFFSET) ? length : -1;
+  }
+
+  /**
+   * Internal method to return the CRC32C of the given bytes of the buffer.
+   */
+  private static int checksum(MappedByteBuffer buffer, int offset, int length) {
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.slice(offset, length));
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Internal method to map the given file, creating it if necessary.
+   */
+  private static MappedByteBuffer map(Path file, int size) throws IOException {
+    try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // The mapping stays valid after the channel is closed.
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  /**
+   * Internal method to return the path of the given segment.
+   */
+  private Path segmentPath(long segment) {
+    return directory.resolve(String.format("segment-%012d.dat", segment));
+  }
+
+  /**
+   * Internal method to map the given segment.
+   */
+  private MappedByteBuffer mapSegment(long segment) throws IOException {
+    return map(segmentPath(segment), segmentSize);
+  }
+
+  /**
+   * Adds message to the end of the queue. The message is visible to the
+   * reader right away; call `force` to make it durable.
+   * Throws `IllegalArgumentException` if the message does not fit in a segment.
+   *
+   * Complexity: O(m), where `m` is the length of the message.
+   */
+  public void queue(byte[] message) throws IOException {
+    int recordSize = HEADER_SIZE + message.length;
+    if(recordSize > segmentSize - HEADER_SIZE) {
+      throw new IllegalArgumentException("Message is larger than a segment.");
+    }
+
+    if(writeOffset + recordSize > segmentSize - HEADER_SIZE) {
+      writeBuffer.putInt(writeOffset, END_OF_SEGMENT);
+      // Later calls to `force` only cover the new segment.
+      writeBuffer.force();
+      writeSegment++;
+      writeBuffer = writeSegment == readSegment ? readBuffer : mapSegment(writeSegment);
+      writeOffset = 0;
+    }
+
+    writeBuffer.put(writeOffset + HEADER_SIZE, message);
+    // Clear the next header, which may hold a record left from before a crash.
+    writeBuffer.putInt(writeOffset + recordSize, 0);
+    writeBuffer.putInt(writeOffset + CHECKSUM_OFFSET, checksum(writeBuffer, writeOffset + HEADER_SIZE, message.length));
+    // The length is written last, so a reader in this process never sees a
+    // partial record. Records torn by an OS crash fail the checksum instead.
+    writeBuffer.putInt(writeOffset, message.length + 1);
+    writeOffset += recordSize;
+  }
+
+  /**
+   * Removes first message from the queue and returns it.
+   * Returns `null` if queue is empty.
+   * The new position is only durable once `commit` is called.
+   *
+   * Complexity: O(m), where `m` is the length of the message.
+   */
+  public byte[] dequeue() throws IOException {
+    while(true) {
+      int header = readBuffer.getInt(readOffset);
+      if(header == END_OF_SEGMENT) {
+        if(readSegment == writeSegment) {
+          return null;
+        }
+        readSegment++;
+        readBuffer = readSegment == writeSegment ? writeBuffer : mapSegment(readSegment);
+        readOffset = 0;
+        continue;
+      }
+      int length = recordLength(readBuffer, readOffset);
+      if(length < 0) {
+        return null;
+      }
+
+      byte[] message = new byte[length];
+      readBuffer.get(readOffset + HEADER_SIZE, message);
+      readOffset += HEADER_SIZE + message.length;
+      return message;
+    }
+  }
+
+  /**
+   * Returns `true` if the queue has no messages, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    if(readSegment == writeSegment) {
+      return readOffset == writeOffset;
+    }
+    // The reader may sit on the end marker of a segment the writer just left.
+    return readSegment == writeSegment - 1 && writeOffset == 0
+      && readBuffer.getInt(readOffset) == END_OF_SEGMENT;
+  }
+
+  /**
+   * Stores the current read position durably, so a restarted queue resumes
+   * after the last dequeued message, and deletes fully read segments.
+   */
+  public void commit() throws IOException {
+    cursor.putLong(0, readSegment);
+    cursor.putInt(Long.BYTES, readOffset);
+    cursor.force();
+
+    for(long segment=readSegment - 1;segment>=0;segment--) {
+      if(!Files.deleteIfExists(segmentPath(segment))) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Writes the queued messages to the storage device.
+   */
+  public void force() {
+    writeBuffer.force();
+  }
+
+  /**
+   * Forces the queued messages to storage. The read position is not
+   * committed, call `commit` for that.
+   */
+  @Override
+  public void close() throws IOException {
+    force();
+  }
+}
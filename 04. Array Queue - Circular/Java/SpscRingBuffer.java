@@ -0,0 +1,193 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * SpscRingBuffer is a class to represent a lock-free circular queue for
+ * exactly one producer thread and one consumer thread.
+ *
+ * Unlike ArrayQueue, the indexes are ever increasing sequences. The capacity
+ * is a power of two, so the slot of a sequence is found with a mask instead
+ * of `%`, and the queue is full when `tail - head == capacity` and empty
+ * when `head == tail`. Each side publishes its sequence with an ordered
+ * (release) store and keeps a cached copy of the other side's sequence, so
+ * in the common case an operation touches no shared cache line at all.
+*/
+class SpscRingBuffer<T> extends SpscRingBufferPadHead {
+  // Used to publish and read the sequences with release/acquire ordering.
+  private static final VarHandle HEAD;
+  private static final VarHandle TAIL;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      HEAD = lookup.findVarHandle(SpscRingBufferHead.class, "head", long.class);
+      TAIL = lookup.findVarHandle(SpscRingBufferTail.class, "tail", long.class);
+    } catch(ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // To store default capacity of the queue.
+  private static final int DEFAULT_CAPACITY = 1024;
+
+  // Stores the capacity of the queue, always a power of two.
+  private final int capacity;
+
+  // Mask to get the slot of a sequence.
+  private final int mask;
+
+  // This is the actual array.
+  private final T[] arr;
+
+  /**
+   * Public constructor to initialize SpscRingBuffer with default capacity.
+   */
+  public SpscRingBuffer() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Public constructor to initialize SpscRingBuffer with given capacity.
+   * The capacity is rounded up to the next power of two.
+   */
+  public SpscRingBuffer(int capacity) {
+    if(capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+    }
+    this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.arr = (T[]) new Object[this.capacity];
+  }
+
+  /**
+   * Adds element to the queue. Must only be called by the producer thread.
+   * Returns `false` if the queue is full.
+   * Throws `NullPointerException` if element is `null`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean offer(T elem) {
+    if(elem == null) {
+      throw new NullPointerException();
+    }
+
+    long currentTail = tail;
+    if(currentTail - cachedHead >= capacity) {
+      // Only read the consumer's sequence when the cached one says full.
+      cachedHead = (long) HEAD.getAcquire(this);
+      if(currentTail - cachedHead >= capacity) {
+        return false;
+      }
+    }
+    arr[(int) currentTail & mask] = elem;
+    TAIL.setRelease(this, currentTail + 1);
+    return true;
+  }
+
+  /**
+   * Removes first element from the queue and returns it.
+   * Must only be called by the consumer thread.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T poll() {
+    long currentHead = head;
+    if(currentHead >= cachedTail) {
+      // Only read the producer's sequence when the cached one says empty.
+      cachedTail = (long) TAIL.getAcquire(this);
+      if(currentHead >= cachedTail) {
+        return null;
+      }
+    }
+    int index = (int) currentHead & mask;
+    T removedElem = arr[index];
+    arr[index] = null;
+    HEAD.setRelease(this, currentHead + 1);
+    return removedElem;
+  }
+
+  /**
+   * Returns the first element of the queue without removing it.
+   * Must only be called by the consumer thread.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peek() {
+    long currentHead = head;
+    if(currentHead >= cachedTail) {
+      cachedTail = (long) TAIL.getAcquire(this);
+      if(currentHead >= cachedTail) {
+        return null;
+      }
+    }
+    return arr[(int) currentHead & mask];
+  }
+
+  /**
+   * Returns the size of the queue. The result is only a snapshot when the
+   * other thread is active.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    long currentHead = (long) HEAD.getAcquire(this);
+    long currentTail = (long) TAIL.getAcquire(this);
+    return (int) Math.max(0, Math.min(capacity, currentTail - currentHead));
+  }
+
+  /**
+   * Returns `true` if the queue has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns the capacity of the queue.
+   *
+   * Complexity: O(1)
+   */
+  public int capacity() {
+    return capacity;
+  }
+}
+
+/**
+ * The classes below only lay out the fields of SpscRingBuffer. Fields of a
+ * superclass are placed before the fields of a subclass, so the padding
+ * keeps the producer's and the consumer's fields on separate cache lines.
+ */
+abstract class SpscRingBufferPad0 {
+  long p00, p01, p02, p03, p04, p05, p06, p07;
+  long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+abstract class SpscRingBufferTail extends SpscRingBufferPad0 {
+  // Stores the sequence of the next slot to write, owned by the producer.
+  protected volatile long tail;
+
+  // Stores the producer's last seen value of `head`.
+  protected long cachedHead;
+}
+
+abstract class SpscRingBufferPadTail extends SpscRingBufferTail {
+  long p10, p11, p12, p13, p14, p15, p16, p17;
+  long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+}
+
+abstract class SpscRingBufferHead extends SpscRingBufferPadTail {
+  // Stores the sequence of the next slot to read, owned by the consumer.
+  protected volatile long head;
+
+  // Stores the consumer's last seen value of `tail`.
+  protected long cachedTail;
+}
+
+abstract class SpscRingBufferPadHead extends SpscRingBufferHead {
+  long p20, p21, p22, p23, p24, p25, p26, p27;
+  long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+}
@@ -0,0 +1,277 @@
+/**
+ * TimingWheelQueue is a class to represent a queue of delayed elements built
+ * on a hierarchical timing wheel. Elements are scheduled a number of ticks
+ * in the future and move to a ready queue once their tick is reached.
+ *
+ * The wheel has several levels of 64 buckets each. Level `L` holds the
+ * elements due between `64^L` and `64^(L+1)` ticks from now, so a bucket of
+ * level 0 spans one tick and a bucket of level 1 spans 64 ticks. When the
+ * clock reaches the start of a bucket of a higher level, its elements are
+ * spread over the lower levels. Scheduling and cancelling only link or
+ * unlink a node of a bucket, so both are O(1).
+*/
+class TimingWheelQueue<T> {
+
+  /**
+   * Timeout is the handle of a scheduled element. It is also the node of
+   * the doubly linked list of its bucket.
+   */
+  class Timeout {
+    // Stores the scheduled element.
+    private final T value;
+
+    // Stores the tick at which the element becomes ready.
+    private final long deadline;
+
+    // Stores the neighbours in the bucket.
+    private Timeout prev;
+    private Timeout next;
+
+    // Stores the level and bucket holding the node, `-1` when not in the wheel.
+    private int level = -1;
+    private int bucket = -1;
+
+    // Stores whether the timeout was cancelled.
+    private boolean cancelled;
+
+    // Stores whether the element was returned by `poll`.
+    private boolean polled;
+
+    Timeout(T value, long deadline) {
+      this.value = value;
+      this.deadline = deadline;
+    }
+
+    public T value() {
+      return value;
+    }
+
+    public long deadline() {
+      return deadline;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    /**
+     * Cancels the timeout so its element is never returned by `poll`.
+     * Returns `false` if it was already cancelled or polled.
+     *
+     * Complexity: O(1)
+     */
+    public boolean cancel() {
+      if(cancelled || polled) {
+        return false;
+      }
+      cancelled = true;
+      if(level >= 0) {
+        unlink(this);
+      }
+      size--;
+      return true;
+    }
+  }
+
+  // Number of bits of the tick used by every level.
+  private static final int WHEEL_BITS = 6;
+
+  // Stores the number of buckets in every level.
+  private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+  // Mask to get the bucket of a tick inside a level.
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+  // Stores the number of levels, which allows delays below 2^36 ticks.
+  private static final int LEVELS = 6;
+
+  // Stores the largest delay which can be scheduled.
+  private static final long MAX_DELAY = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+  // Stores the first node of every bucket of every level.
+  private final Timeout[][] buckets;
+
+  // Stores the elements whose tick was reached, in expiry order.
+  private final GrowableArrayQueue<Timeout> ready;
+
+  // Stores the current tick.
+  private long currentTick;
+
+  // Stores the number of scheduled elements which are not yet polled or cancelled.
+  private int size;
+
+  /**
+   * Public constructor to initialize TimingWheelQueue starting at tick 0.
+   */
+  public TimingWheelQueue() {
+    this.buckets = (Timeout[][]) new TimingWheelQueue.Timeout[LEVELS][WHEEL_SIZE];
+    this.ready = new GrowableArrayQueue<Timeout>(WHEEL_SIZE, true);
+    this.currentTick = 0;
+    this.size = 0;
+  }
+
+  /**
+   * Schedules the element to become ready after the given number of ticks
+   * and returns its handle, which can be used to cancel it.
+   * A delay of `0` makes the element ready right away.
+   * Throws `IllegalArgumentException` if the delay is negative or too large.
+   *
+   * Complexity: O(1)
+   */
+  public Timeout schedule(T elem, long delayTicks) {
+    if(delayTicks < 0 || delayTicks > MAX_DELAY) {
+      throw new IllegalArgumentException("Delay must be between 0 and " + MAX_DELAY + " ticks.");
+    }
+    Timeout timeout = new Timeout(elem, currentTick + delayTicks);
+    place(timeout);
+    size++;
+    return timeout;
+  }
+
+  /**
+   * Internal method to put the timeout in the bucket matching its deadline,
+   * or in the ready queue if the deadline is reached.
+   */
+  private void place(Timeout timeout) {
+    long delta = timeout.deadline - currentTick;
+    if(delta <= 0) {
+      ready.queue(timeout);
+      return;
+    }
+
+    int level = (63 - Long.numberOfLeadingZeros(delta)) / WHEEL_BITS;
+    int bucket = (int) (timeout.deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+    Timeout head = buckets[level][bucket];
+    timeout.level = level;
+    timeout.bucket = bucket;
+    timeout.prev = null;
+    timeout.next = head;
+    if(head != null) {
+      head.prev = timeout;
+    }
+    buckets[level][bucket] = timeout;
+  }
+
+  /**
+   * Internal method to remove the timeout from its bucket.
+   */
+  private void unlink(Timeout timeout) {
+    if(timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      buckets[timeout.level][timeout.bucket] = timeout.next;
+    }
+    if(timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.level = -1;
+    timeout.bucket = -1;
+  }
+
+  /**
+   * Advances the clock by one tick. Returns the number of elements which
+   * became ready.
+   *
+   * Complexity: O(1) amortized, plus the number of elements moved.
+   */
+  public int tick() {
+    currentTick++;
+    int readyBefore = ready.size();
+
+    // Find the highest level whose bucket starts at this tick.
+    int level = 0;
+    while(level < LEVELS - 1 && (currentTick & ((1L << (WHEEL_BITS * (level + 1))) - 1)) == 0) {
+      level++;
+    }
+    // Spread those buckets over the lower levels, highest first.
+    for(;level>0;level--) {
+      int bucket = (int) (currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+      Timeout timeout = buckets[level][bucket];
+      buckets[level][bucket] = null;
+      while(timeout != null) {
+        Timeout next = timeout.next;
+        timeout.level = -1;
+        timeout.bucket = -1;
+        place(timeout);
+        timeout = next;
+      }
+    }
+
+    // Every element in the current bucket of level 0 is due now.
+    int bucket = (int) currentTick & WHEEL_MASK;
+    Timeout timeout = buckets[0][bucket];
+    buckets[0][bucket] = null;
+    while(timeout != null) {
+      Timeout next = timeout.next;
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.level = -1;
+      timeout.bucket = -1;
+      ready.queue(timeout);
+      timeout = next;
+    }
+    return ready.size() - readyBefore;
+  }
+
+  /**
+   * Advances the clock by the given number of ticks. Returns the number of
+   * elements which became ready.
+   *
+   * Complexity: O(ticks), plus the number of elements moved.
+   */
+  public int advance(long ticks) {
+    int moved = 0;
+    for(long i=0;i<ticks;i++) {
+      moved += tick();
+    }
+    return moved;
+  }
+
+  /**
+   * Removes the first ready element and returns it.
+   * Returns `null` if no element is ready.
+   *
+   * Complexity: O(1)
+   */
+  public T poll() {
+    Timeout timeout;
+    while((timeout = ready.dequeue()) != null) {
+      if(!timeout.cancelled) {
+        timeout.polled = true;
+        size--;
+        return timeout.value;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the current tick.
+   *
+   * Complexity: O(1)
+   */
+  public long currentTick() {
+    return currentTick;
+  }
+
+  /**
+   * Returns the number of elements which are scheduled or ready and were
+   * not polled or cancelled yet.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns `true` if there are no scheduled or ready elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+}
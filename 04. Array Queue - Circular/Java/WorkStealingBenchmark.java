@@ -0,0 +1,60 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is the main class which measures how WorkStealingScheduler scales
+ * with the number of worker threads.
+ *
+ * The same divide-and-conquer workload (summing the numbers from 1 to the
+ * given limit, default 1,000,000,000) is run with 1, 2, 4, ... threads up to
+ * the number of processors, after a warm-up run. The speedup is relative to
+ * the run with a single thread.
+ */
+class WorkStealingBenchmark {
+  // Ranges smaller than this are summed directly instead of being split.
+  private static final long THRESHOLD = 100000;
+
+  public static void main(String args[]) throws InterruptedException {
+    long limit = args.length > 0 ? Long.parseLong(args[0]) : 1000000000L;
+    int processors = Runtime.getRuntime().availableProcessors();
+
+    run(1, limit);
+
+    System.out.println("threads  time (ms)  speedup  steals");
+    double base = 0;
+    for(int threads=1;threads<=processors;threads=nextThreadCount(threads, processors)) {
+      long[] stats = run(threads, limit);
+      double millis = stats[0] / 1e6;
+      if(threads == 1) {
+        base = millis;
+      }
+      System.out.println(String.format("%7d  %9.1f  %7.2f  %6d", threads, millis, base / millis, stats[1]));
+    }
+  }
+
+  /**
+   * Internal method to double the thread count, ending exactly at the
+   * number of processors.
+   */
+  private static int nextThreadCount(int threads, int processors) {
+    if(threads == processors) {
+      return processors + 1;
+    }
+    return Math.min(threads * 2, processors);
+  }
+
+  /**
+   * Runs the workload and returns the elapsed nanoseconds and the number of steals.
+   */
+  private static long[] run(int threads, long limit) throws InterruptedException {
+    LongAdder result = new LongAdder();
+    WorkStealingScheduler scheduler = new WorkStealingScheduler(threads);
+    long begin = System.nanoTime();
+    scheduler.run(WorkStealingScheduler.sum(1, limit, THRESHOLD, result));
+    long elapsed = System.nanoTime() - begin;
+
+    if(result.sum() != limit * (limit + 1) / 2) {
+      throw new IllegalStateException("Wrong result: " + result.sum());
+    }
+    return new long[] { elapsed, scheduler.steals() };
+  }
+}
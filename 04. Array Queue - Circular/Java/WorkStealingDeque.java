@@ -0,0 +1,210 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WorkStealingDeque is a class to represent a Chase-Lev work-stealing deque.
+ *
+ * One owner thread pushes and pops elements at the bottom, while any number
+ * of thief threads steal elements from the top. The owner only needs a CAS
+ * when it competes with a thief for the last element. The elements live in a
+ * circular array indexed by ever-increasing `top` and `bottom` counters with
+ * a power-of-two mask, and the array grows when it is full.
+*/
+class WorkStealingDeque<T> {
+
+  /**
+   * CircularArray is the ring of slots used by the deque.
+   */
+  static class CircularArray<T> {
+    // Mask to get the slot of a counter.
+    private final int mask;
+
+    // This is the actual array.
+    private final T[] arr;
+
+    public CircularArray(int capacity) {
+      this.arr = (T[]) new Object[capacity];
+      this.mask = capacity - 1;
+    }
+
+    public int capacity() {
+      return arr.length;
+    }
+
+    public T get(long index) {
+      return arr[(int) index & mask];
+    }
+
+    public void put(long index, T elem) {
+      arr[(int) index & mask] = elem;
+    }
+
+    /**
+     * Returns a ring of double the capacity holding the elements between
+     * `top` (inclusive) and `bottom` (exclusive). The elements keep their
+     * counters, so thieves reading the old ring still see valid elements.
+     */
+    public CircularArray<T> grow(long top, long bottom) {
+      CircularArray<T> newArray = new CircularArray<T>(arr.length * 2);
+      for(long i=top;i<bottom;i++) {
+        newArray.put(i, get(i));
+      }
+      return newArray;
+    }
+  }
+
+  // To store default capacity of the deque.
+  private static final int DEFAULT_CAPACITY = 64;
+
+  // Stores the counter of the slot after the bottom element, written only by the owner.
+  private volatile long bottom;
+
+  // Stores the counter of the top element, advanced by CAS.
+  private final AtomicLong top = new AtomicLong();
+
+  // This is the actual ring, replaced by the owner when it grows.
+  private volatile CircularArray<T> array;
+
+  // Stores the counter below which the slots of stolen elements were
+  // cleared, used only by the owner.
+  private long cleared;
+
+  /**
+   * Public constructor to initialize WorkStealingDeque with default capacity.
+   */
+  public WorkStealingDeque() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Public constructor to initialize WorkStealingDeque with given capacity.
+   * The capacity is rounded up to the next power of two.
+   */
+  public WorkStealingDeque(int capacity) {
+    if(capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must not exceed 2^30.");
+    }
+    this.array = new CircularArray<T>(capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+  }
+
+  /**
+   * Adds element at the bottom of the deque. Must only be called by the owner.
+   *
+   * Complexity:
+   *   Average Case (Array don't need resizing) - O(1)
+   *   Worst Case (Array needs resizing) - O(n)
+   */
+  public void push(T elem) {
+    long b = bottom;
+    long t = top.get();
+    CircularArray<T> a = array;
+    if(b - t > a.capacity() - 1) {
+      if(a.capacity() >= (1 << 30)) {
+        throw new OutOfMemoryError("No free memory.");
+      }
+      a = a.grow(t, b);
+      array = a;
+      // The new ring only holds the elements from `top` on.
+      cleared = Math.max(cleared, t);
+    }
+    clearStolen(a, b, t);
+    a.put(b, elem);
+    // The volatile write publishes the element to thieves.
+    bottom = b + 1;
+  }
+
+  /**
+   * Removes element from the bottom of the deque and returns it.
+   * Must only be called by the owner. Returns `null` if deque is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T pop() {
+    long b = bottom - 1;
+    CircularArray<T> a = array;
+    // Claim the slot before looking at top; both are volatile, so a thief
+    // either sees the smaller bottom or we see its increment of top.
+    bottom = b;
+    long t = top.get();
+    clearStolen(a, b + 1, t);
+    long size = b - t;
+    if(size < 0) {
+      bottom = t;
+      return null;
+    }
+
+    T elem = a.get(b);
+    if(size > 0) {
+      // Top is below this slot, so no thief is racing for it.
+      a.put(b, null);
+      return elem;
+    }
+
+    // Last element, race the thieves for it.
+    if(!top.compareAndSet(t, t + 1)) {
+      elem = null;
+    }
+    // Either way top has passed the slot, so no thief will return it.
+    a.put(b, null);
+    bottom = t + 1;
+    return elem;
+  }
+
+  /**
+   * Internal method which lets go of the elements taken by thieves, so
+   * finished tasks do not stay reachable until their slot is reused.
+   * Thieves cannot clear the slot themselves: once top has moved past it,
+   * the owner may already have pushed a new element into the same slot.
+   * Only slots below `t` which do not share a slot with the elements
+   * between `t` and `b` are cleared, each of them once.
+   *
+   * Complexity: O(1) amortized
+   */
+  private void clearStolen(CircularArray<T> a, long b, long t) {
+    for(long i=Math.max(cleared, b - a.capacity());i<t;i++) {
+      a.put(i, null);
+    }
+    cleared = Math.max(cleared, t);
+  }
+
+  /**
+   * Removes element from the top of the deque and returns it. Can be called
+   * by any thread. Returns `null` if the deque is empty or another thread
+   * won the race for the top element.
+   *
+   * Complexity: O(1)
+   */
+  public T steal() {
+    long t = top.get();
+    long b = bottom;
+    CircularArray<T> a = array;
+    if(b - t <= 0) {
+      return null;
+    }
+
+    T elem = a.get(t);
+    if(!top.compareAndSet(t, t + 1)) {
+      return null;
+    }
+    return elem;
+  }
+
+  /**
+   * Returns the size of the deque. The result is only a snapshot when other
+   * threads modify the deque concurrently.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    long size = bottom - top.get();
+    return (int) Math.max(0, size);
+  }
+
+  /**
+   * Returns `true` if the deque has no elements, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+}
@@ -0,0 +1,162 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WorkStealingScheduler is a small fork-join style scheduler built on
+ * WorkStealingDeque. Every worker thread owns a deque: tasks it forks are
+ * pushed to and popped from the bottom of its own deque, and an idle worker
+ * steals from the top of the deque of a random victim.
+ *
+ * Running this class executes a demo which sums the numbers from 1 to the
+ * given limit (default 100,000,000) by recursively splitting the range.
+ */
+class WorkStealingScheduler {
+
+  /**
+   * Task is a unit of work which may fork more tasks.
+   */
+  interface Task {
+    void run(WorkStealingScheduler scheduler);
+  }
+
+  /**
+   * Worker is a thread which owns a deque.
+   */
+  class Worker extends Thread {
+    // Stores the tasks forked by this worker.
+    final WorkStealingDeque<Task> deque = new WorkStealingDeque<Task>();
+
+    // Stores the index of this worker.
+    final int index;
+
+    Worker(int index) {
+      super("work-stealing-worker-" + index);
+      this.index = index;
+    }
+
+    @Override
+    public void run() {
+      while(pending.get() > 0) {
+        Task task = deque.pop();
+        if(task == null) {
+          task = steal(index);
+        }
+        if(task == null) {
+          Thread.yield();
+          continue;
+        }
+        task.run(WorkStealingScheduler.this);
+        pending.decrementAndGet();
+      }
+    }
+  }
+
+  // Stores the workers of the scheduler.
+  private final Worker[] workers;
+
+  // Stores the number of tasks forked but not yet finished.
+  private final AtomicLong pending = new AtomicLong();
+
+  // Stores the number of tasks taken from another worker.
+  private final LongAdder steals = new LongAdder();
+
+  /**
+   * Public constructor to initialize WorkStealingScheduler with the given
+   * number of worker threads.
+   */
+  public WorkStealingScheduler(int threads) {
+    this.workers = new Worker[Math.max(threads, 1)];
+    for(int i=0;i<workers.length;i++) {
+      workers[i] = new Worker(i);
+    }
+  }
+
+  /**
+   * Runs the given task and every task forked from it, and returns once all
+   * of them are done. A scheduler can only run once.
+   */
+  public void run(Task root) throws InterruptedException {
+    pending.incrementAndGet();
+    // Starting the threads publishes the task to the first worker.
+    workers[0].deque.push(root);
+    for(Worker worker : workers) {
+      worker.start();
+    }
+    for(Worker worker : workers) {
+      worker.join();
+    }
+  }
+
+  /**
+   * Schedules the given task. Must be called from a task running on this
+   * scheduler; the task is pushed to the deque of the current worker.
+   */
+  public void fork(Task task) {
+    pending.incrementAndGet();
+    ((Worker) Thread.currentThread()).deque.push(task);
+  }
+
+  /**
+   * Returns the number of tasks which were stolen by another worker.
+   */
+  public long steals() {
+    return steals.sum();
+  }
+
+  /**
+   * Internal method to try to steal a task from the other workers, starting
+   * with a random victim.
+   */
+  private Task steal(int thief) {
+    int count = workers.length;
+    int start = ThreadLocalRandom.current().nextInt(count);
+    for(int i=0;i<count;i++) {
+      int victim = (start + i) % count;
+      if(victim == thief) {
+        continue;
+      }
+      Task task = workers[victim].deque.steal();
+      if(task != null) {
+        steals.increment();
+        return task;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a task which adds the numbers from `from` to `to` (inclusive)
+   * to `result`, splitting ranges larger than `threshold` into two forked
+   * tasks.
+   */
+  static Task sum(long from, long to, long threshold, LongAdder result) {
+    return scheduler -> {
+      if(to - from < threshold) {
+        long total = 0;
+        for(long i=from;i<=to;i++) {
+          total += i;
+        }
+        result.add(total);
+      } else {
+        long mid = (from + to) >>> 1;
+        scheduler.fork(sum(from, mid, threshold, result));
+        scheduler.fork(sum(mid + 1, to, threshold, result));
+      }
+    };
+  }
+
+  public static void main(String args[]) throws InterruptedException {
+    long limit = args.length > 0 ? Long.parseLong(args[0]) : 100000000L;
+    int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+    LongAdder result = new LongAdder();
+    WorkStealingScheduler scheduler = new WorkStealingScheduler(threads);
+    long begin = System.nanoTime();
+    scheduler.run(sum(1, limit, 10000, result));
+    long elapsed = System.nanoTime() - begin;
+
+    System.out.println("Sum of 1.." + limit + " = " + result.sum() + " (expected " + (limit * (limit + 1) / 2) + ")");
+    System.out.println("Threads: " + threads + ", steals: " + scheduler.steals() + ", time: " + (elapsed / 1000000) + " ms");
+  }
+}
@@ -1,6 +1,11 @@
 /**
  * LinkedList is a class to represent Linked List data structure 
  * with various functionalities.
+ *
+ * In doubly linked mode the nodes also point to their predecessor, which
+ * makes `removeEnd` O(1) at the cost of one more reference per node. Only
+ * that mode allocates the larger nodes. The deque methods work in both
+ * modes.
 */
 class LinkedList<T> {
 
@@ -21,14 +26,72 @@ class LinkedList<T> {
     }
   }
 
+  /**
+   * Class to represent a node which also points to its predecessor, used
+   * only in doubly linked mode
+   */
+  class DoublyNode<T> extends Node<T> {
+    public Node<T> prev;
+
+    public DoublyNode(T value, Node<T> next) {
+      super(value, next);
+    }
+  }
+
   // Stores the pointer to the first node in the linked list
   private Node<T> root;
 
   // Stores the pointer to the last node in the linked list
   private Node<T> leaf;
 
+  // Stores whether the nodes keep a pointer to their predecessor
+  private final boolean doublyLinked;
+
+  // Stores released nodes for reuse, linked through `next`
+  private Node<T> pool;
+
+  // Stores the number of nodes in the pool
+  private int poolSize;
+
+  // Stores the largest number of nodes the pool keeps, `0` disables pooling
+  private final int poolCapacity;
+
   public LinkedList() {
+    this(false);
+  }
+
+  /**
+   * Public constructor to initialize LinkedList, keeping predecessor
+   * pointers if `doublyLinked` is `true`.
+   */
+  public LinkedList(boolean doublyLinked) {
+    this(doublyLinked, 0);
+  }
+
+  /**
+   * Public constructor to initialize LinkedList which keeps up to
+   * `poolCapacity` removed nodes for reuse by later adds.
+   */
+  public LinkedList(boolean doublyLinked, int poolCapacity) {
     this.root = null;
+    this.doublyLinked = doublyLinked;
+    this.poolCapacity = poolCapacity;
+  }
+
+  /**
+   * Internal method to return a node holding the given values, taken from
+   * the pool if there is one.
+   */
+  private Node<T> newNode(T value, Node<T> next) {
+    if(pool == null) {
+      return doublyLinked ? new DoublyNode<T>(value, next) : new Node<T>(value, next);
+    }
+    Node<T> node = pool;
+    pool = node.next;
+    poolSize--;
+    node.value = value;
+    node.next = next;
+    return node;
   }
 
   /**
@@ -37,12 +100,13 @@ class LinkedList<T> {
    * Complexity: O(1)
    */
   public void addEnd(T elem) {
-    Node<T> newNode = new Node(elem, null);
+    Node<T> newNode = newNode(elem, null);
     if(root == null) {
       root = newNode;
       leaf = root;
     } else {
       leaf.next = newNode;
+      setPrev(newNode, leaf);
       leaf = newNode;
     }
   }
@@ -53,12 +117,13 @@ class LinkedList<T> {
    * Complexity: O(1)
    */
   public void addStart(T elem) {
-    Node<T> newNode = new Node(elem, null);
+    Node<T> newNode = newNode(elem, null);
     if(root == null) {
       root = newNode;
       leaf = root;
     } else {
       newNode.next = root;
+      setPrev(root, newNode);
       root = newNode;
     }
   }
@@ -79,11 +144,11 @@ class LinkedList<T> {
 
       if(root == null) {
         leaf = null;
+      } else {
+        setPrev(root, null);
       }
 
-      removedNode.value = null;
-      removedNode.next = null;
-      removedNode = null;
+      release(removedNode);
 
       return removedElem;
     }
@@ -93,11 +158,25 @@ class LinkedList<T> {
    * Removes element from the end of the LinkedList and returns it.
    * Returns `null` if LinkedList is empty.
    *
-   * Complexity: O(n)
+   * Complexity: O(1) in doubly linked mode, otherwise O(n)
    */
   public T removeEnd() {
     if(root == null) {
       return null;
+    } else if(doublyLinked) {
+      Node<T> removedNode = leaf;
+      T removedElem = removedNode.value;
+      leaf = ((DoublyNode<T>) leaf).prev;
+
+      if(leaf == null) {
+        root = null;
+      } else {
+        leaf.next = null;
+      }
+
+      release(removedNode);
+
+      return removedElem;
     } else {
       Node<T> currentNode = root;
       Node<T> preNode = null;
@@ -118,17 +197,15 @@ class LinkedList<T> {
         root = null;
       }
 
-      currentNode.value = null;
-      currentNode.next = null;
-      currentNode = null;
+      release(currentNode);
 
       return removedElem;
     }
   }
 
   /**
-   * Removes the given element from the LinkedList and returns it.
-   * Returns `null` if element does not exist.
+   * Removes the first occurrence of the given element from the LinkedList.
+   * Returns `true` if it was found, otherwise returns `false`.
    *
    * Complexity: O(n)
    */
@@ -136,12 +213,19 @@ class LinkedList<T> {
     Node<T> currentNode = root;
     Node<T> prevNode = null;
     while(currentNode != null) {
-      if(currentNode.value == value) {
-        prevNode.next = currentNode.next;
+      if(value == null ? currentNode.value == null : value.equals(currentNode.value)) {
+        if(prevNode == null) {
+          root = currentNode.next;
+        } else {
+          prevNode.next = currentNode.next;
+        }
+        if(currentNode.next == null) {
+          leaf = prevNode;
+        } else {
+          setPrev(currentNode.next, prevNode);
+        }
 
-        currentNode.value = null;
-        currentNode.next = null;
-        currentNode = null;
+        release(currentNode);
         return true;
       }
       prevNode = currentNode;
@@ -150,6 +234,99 @@ class LinkedList<T> {
     return false;
   }
 
+  /**
+   * Adds element at the start of the LinkedList. Same as `addStart`.
+   *
+   * Complexity: O(1)
+   */
+  public void addFirst(T elem) {
+    addStart(elem);
+  }
+
+  /**
+   * Adds element at the end of the LinkedList. Same as `addEnd`.
+   *
+   * Complexity: O(1)
+   */
+  public void addLast(T elem) {
+    addEnd(elem);
+  }
+
+  /**
+   * Removes element from the start of the LinkedList and returns it.
+   * Returns `null` if LinkedList is empty. Same as `removeStart`.
+   *
+   * Complexity: O(1)
+   */
+  public T pollFirst() {
+    return removeStart();
+  }
+
+  /**
+   * Removes element from the end of the LinkedList and returns it.
+   * Returns `null` if LinkedList is empty. Same as `removeEnd`.
+   *
+   * Complexity: O(1) in doubly linked mode, otherwise O(n)
+   */
+  public T pollLast() {
+    return removeEnd();
+  }
+
+  /**
+   * Returns the first element of the LinkedList without removing it.
+   * Returns `null` if LinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peekFirst() {
+    return root == null ? null : root.value;
+  }
+
+  /**
+   * Returns the last element of the LinkedList without removing it.
+   * Returns `null` if LinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peekLast() {
+    return leaf == null ? null : leaf.value;
+  }
+
+  /**
+   * Returns `true` if the LinkedList is empty, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  /**
+   * Internal method to set the predecessor of the node in doubly linked
+   * mode. Does nothing in singly linked mode.
+   */
+  private void setPrev(Node<T> node, Node<T> prev) {
+    if(doublyLinked) {
+      ((DoublyNode<T>) node).prev = prev;
+    }
+  }
+
+  /**
+   * Internal method to clear a removed node and keep it for reuse if the
+   * pool has room, so steady-state adds and removes allocate nothing.
+   */
+  private void release(Node<T> node) {
+    node.value = null;
+    setPrev(node, null);
+    if(poolSize < poolCapacity) {
+      node.next = pool;
+      pool = node;
+      poolSize++;
+    } else {
+      node.next = null;
+    }
+  }
+
   /**
    * Displays the LinkedList.
    *
@@ -0,0 +1,152 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * LockFreeQueue is a class to represent an unbounded FIFO queue which can be
+ * shared by any number of threads without locks (Michael-Scott queue).
+ *
+ * Like LinkedList it is a singly linked list with a `root` (head) and a
+ * `leaf` (tail) pointer, but both are updated with compare-and-set. The
+ * head always points to a dummy node whose successor holds the first
+ * element. An enqueuer links its node after the last node and then swings
+ * the tail; any thread which finds the tail lagging behind swings it
+ * forward first, so no thread ever waits for another.
+ *
+ * Removed nodes are not recycled: a node is only reused by the garbage
+ * collector once no thread can still hold a reference to it, which rules
+ * out the ABA problem without tagged pointers or hazard pointers.
+*/
+class LockFreeQueue<T> {
+
+  /**
+   * Class to represend a node for the LockFreeQueue
+   */
+  static class Node<T> {
+    volatile T value;
+    volatile Node<T> next;
+
+    Node(T value) {
+      this.value = value;
+    }
+  }
+
+  // Used to compare-and-set the pointers.
+  private static final VarHandle ROOT;
+  private static final VarHandle LEAF;
+  private static final VarHandle NEXT;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      ROOT = lookup.findVarHandle(LockFreeQueue.class, "root", Node.class);
+      LEAF = lookup.findVarHandle(LockFreeQueue.class, "leaf", Node.class);
+      NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+    } catch(ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // Stores the pointer to the dummy node before the first element.
+  private volatile Node<T> root;
+
+  // Stores the pointer to the last node, or to a node shortly before it.
+  private volatile Node<T> leaf;
+
+  public LockFreeQueue() {
+    Node<T> dummy = new Node<T>(null);
+    this.root = dummy;
+    this.leaf = dummy;
+  }
+
+  /**
+   * Adds element at the end of the queue.
+   * Throws `NullPointerException` if element is `null`.
+   *
+   * Complexity: O(1), retried only when another thread won a race.
+   */
+  public void offer(T elem) {
+    if(elem == null) {
+      throw new NullPointerException();
+    }
+
+    Node<T> newNode = new Node<T>(elem);
+    while(true) {
+      Node<T> last = leaf;
+      Node<T> next = last.next;
+      if(last != leaf) {
+        continue;
+      }
+      if(next != null) {
+        // The tail is lagging behind, help the other enqueuer.
+        LEAF.compareAndSet(this, last, next);
+        continue;
+      }
+      if(NEXT.compareAndSet(last, null, newNode)) {
+        // Failing is fine, it means another thread already moved the tail.
+        LEAF.compareAndSet(this, last, newNode);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Removes element from the start of the queue and returns it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1), retried only when another thread won a race.
+   */
+  public T poll() {
+    while(true) {
+      Node<T> first = root;
+      Node<T> last = leaf;
+      Node<T> next = first.next;
+      if(first != root) {
+        continue;
+      }
+      if(next == null) {
+        return null;
+      }
+      if(first == last) {
+        // Never let the head pass the tail.
+        LEAF.compareAndSet(this, last, next);
+        continue;
+      }
+      T value = next.value;
+      if(ROOT.compareAndSet(this, first, next)) {
+        // The node becomes the new dummy, drop its element for the GC.
+        next.value = null;
+        first.next = first;
+        return value;
+      }
+    }
+  }
+
+  /**
+   * Returns the first element of the queue without removing it.
+   * Returns `null` if queue is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T peek() {
+    while(true) {
+      Node<T> first = root;
+      Node<T> next = first.next;
+      if(next == null) {
+        return null;
+      }
+      T value = next.value;
+      if(first == root && value != null) {
+        return value;
+      }
+    }
+  }
+
+  /**
+   * Returns `true` if the queue is empty, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return root.next == null;
+  }
+}
@@ -0,0 +1,114 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * This is the main class which compares the throughput of LockFreeQueue
+ * with a LinkedList guarded by a single lock and with the JDK's
+ * ConcurrentLinkedQueue.
+ *
+ * Every thread uses the queue as a shared FIFO: it adds an element at the
+ * end and removes one from the start, for the given number of operations
+ * (default 1,000,000). The run is repeated for 1, 2, 4, ... 32 threads.
+ */
+class LockFreeQueueBenchmark {
+
+  /**
+   * Shared queue operations used by the benchmark.
+   */
+  interface SharedQueue {
+    void offer(Integer elem);
+    Integer poll();
+  }
+
+  // Stores how many elements the queue starts with.
+  private static final int INITIAL_ELEMENTS = 1024;
+
+  // Stores the largest number of threads to run with.
+  private static final int MAX_THREADS = 32;
+
+  public static void main(String args[]) throws InterruptedException {
+    int operations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+    // Warm up every implementation before measuring.
+    run(lockedList(), 2, operations);
+    run(lockFreeQueue(), 2, operations);
+    run(concurrentLinkedQueue(), 2, operations);
+
+    System.out.println("threads  synchronized LinkedList (ops/ms)  LockFreeQueue (ops/ms)  ConcurrentLinkedQueue (ops/ms)");
+    for(int threads=1;threads<=MAX_THREADS;threads*=2) {
+      double locked = run(lockedList(), threads, operations);
+      double lockFree = run(lockFreeQueue(), threads, operations);
+      double jdk = run(concurrentLinkedQueue(), threads, operations);
+      System.out.println(String.format("%7d  %33.0f  %22.0f  %30.0f", threads, locked, lockFree, jdk));
+    }
+  }
+
+  /**
+   * Returns a LinkedList where every operation takes the same lock.
+   */
+  private static SharedQueue lockedList() {
+    LinkedList<Integer> list = new LinkedList<Integer>();
+    return new SharedQueue() {
+      public synchronized void offer(Integer elem) { list.addEnd(elem); }
+      public synchronized Integer poll() { return list.removeStart(); }
+    };
+  }
+
+  /**
+   * Returns a LockFreeQueue.
+   */
+  private static SharedQueue lockFreeQueue() {
+    LockFreeQueue<Integer> queue = new LockFreeQueue<Integer>();
+    return new SharedQueue() {
+      public void offer(Integer elem) { queue.offer(elem); }
+      public Integer poll() { return queue.poll(); }
+    };
+  }
+
+  /**
+   * Returns a ConcurrentLinkedQueue.
+   */
+  private static SharedQueue concurrentLinkedQueue() {
+    ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<Integer>();
+    return new SharedQueue() {
+      public void offer(Integer elem) { queue.offer(elem); }
+      public Integer poll() { return queue.poll(); }
+    };
+  }
+
+  /**
+   * Runs the FIFO workload and returns the throughput in operations per
+   * millisecond.
+   */
+  private static double run(SharedQueue queue, int threads, int operations) throws InterruptedException {
+    for(int i=0;i<INITIAL_ELEMENTS;i++) {
+      queue.offer(i);
+    }
+
+    int perThread = operations / threads;
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(threads);
+    for(int t=0;t<threads;t++) {
+      Thread worker = new Thread(() -> {
+        try {
+          start.await();
+        } catch(InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for(int i=0;i<perThread;i+=2) {
+          queue.offer(i);
+          queue.poll();
+        }
+        done.countDown();
+      });
+      worker.start();
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    done.await();
+    long elapsed = System.nanoTime() - begin;
+    return (double) perThread * threads / (elapsed / 1e6);
+  }
+}
@@ -0,0 +1,242 @@
+/**
+ * UnrolledLinkedList is a class to represent a linked list whose nodes
+ * each hold a small array of elements instead of a single one.
+ *
+ * With 16 elements per node a traversal follows one pointer per 16
+ * elements and reads the elements of a node from contiguous memory, so
+ * there are far fewer nodes to allocate and far fewer cache misses than in
+ * LinkedList. Nodes are linked in both directions so the last node can be
+ * reached in O(1) when it runs empty.
+*/
+class UnrolledLinkedList<T> {
+
+  /**
+   * Class to represent a node for the UnrolledLinkedList
+   */
+  class Node {
+    // Stores the elements of the node in positions `0` to `count - 1`.
+    public final Object[] values;
+    public int count;
+    public Node prev;
+    public Node next;
+
+    public Node() {
+      this.values = new Object[nodeCapacity];
+      this.count = 0;
+    }
+  }
+
+  // To store default number of elements held by a node.
+  private static final int DEFAULT_NODE_CAPACITY = 16;
+
+  // Stores the number of elements a node can hold.
+  private final int nodeCapacity;
+
+  // Stores the pointer to the first node in the linked list
+  private Node root;
+
+  // Stores the pointer to the last node in the linked list
+  private Node leaf;
+
+  // Stores the number of elements in the linked list
+  private int size;
+
+  /**
+   * Public constructor to initialize UnrolledLinkedList with default node capacity.
+   */
+  public UnrolledLinkedList() {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Public constructor to initialize UnrolledLinkedList with the given
+   * number of elements per node.
+   */
+  public UnrolledLinkedList(int nodeCapacity) {
+    if(nodeCapacity < 2) {
+      throw new IllegalArgumentException("Node capacity must be at least 2.");
+    }
+    this.nodeCapacity = nodeCapacity;
+    this.root = null;
+    this.leaf = null;
+    this.size = 0;
+  }
+
+  /**
+   * Adds element at the end of the UnrolledLinkedList.
+   *
+   * Complexity: O(1)
+   */
+  public void addEnd(T elem) {
+    if(leaf == null || leaf.count == nodeCapacity) {
+      Node newNode = new Node();
+      if(leaf == null) {
+        root = newNode;
+      } else {
+        leaf.next = newNode;
+        newNode.prev = leaf;
+      }
+      leaf = newNode;
+    }
+    leaf.values[leaf.count++] = elem;
+    size++;
+  }
+
+  /**
+   * Adds element at the start of the UnrolledLinkedList.
+   *
+   * Complexity: O(b), where `b` is the node capacity.
+   */
+  public void addStart(T elem) {
+    if(root == null || root.count == nodeCapacity) {
+      Node newNode = new Node();
+      if(root == null) {
+        leaf = newNode;
+      } else {
+        root.prev = newNode;
+        newNode.next = root;
+      }
+      root = newNode;
+    }
+    System.arraycopy(root.values, 0, root.values, 1, root.count);
+    root.values[0] = elem;
+    root.count++;
+    size++;
+  }
+
+  /**
+   * Removes element from the start of the UnrolledLinkedList and returns it.
+   * Returns `null` if UnrolledLinkedList is empty.
+   *
+   * Complexity: O(b), where `b` is the node capacity.
+   */
+  public T removeStart() {
+    if(root == null) {
+      return null;
+    }
+    T removedElem = (T) root.values[0];
+    removeAt(root, 0);
+    return removedElem;
+  }
+
+  /**
+   * Removes element from the end of the UnrolledLinkedList and returns it.
+   * Returns `null` if UnrolledLinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T removeEnd() {
+    if(leaf == null) {
+      return null;
+    }
+    T removedElem = (T) leaf.values[leaf.count - 1];
+    removeAt(leaf, leaf.count - 1);
+    return removedElem;
+  }
+
+  /**
+   * Removes the first occurrence of the given element from the
+   * UnrolledLinkedList. Returns `true` if it was found, otherwise `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean remove(T value) {
+    for(Node node=root;node!=null;node=node.next) {
+      for(int i=0;i<node.count;i++) {
+        if(value == null ? node.values[i] == null : value.equals(node.values[i])) {
+          removeAt(node, i);
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Internal method to remove the element at the given position of the node.
+   * An empty node is unlinked, and a node which falls below half full takes
+   * the elements of its successor when they fit, so nodes stay dense.
+   */
+  private void removeAt(Node node, int index) {
+    int moved = node.count - index - 1;
+    System.arraycopy(node.values, index + 1, node.values, index, moved);
+    node.values[--node.count] = null;
+    size--;
+
+    if(node.count == 0) {
+      unlink(node);
+    } else if(node.count < nodeCapacity / 2 && node.next != null
+        && node.count + node.next.count <= nodeCapacity) {
+      Node next = node.next;
+      System.arraycopy(next.values, 0, node.values, node.count, next.count);
+      node.count += next.count;
+      unlink(next);
+    }
+  }
+
+  /**
+   * Internal method to remove the node from the list of nodes.
+   */
+  private void unlink(Node node) {
+    if(node.prev == null) {
+      root = node.next;
+    } else {
+      node.prev.next = node.next;
+    }
+    if(node.next == null) {
+      leaf = node.prev;
+    } else {
+      node.next.prev = node.prev;
+    }
+    node.prev = null;
+    node.next = null;
+  }
+
+  /**
+   * Returns `true` if the element exists inside the UnrolledLinkedList, otherwise returns `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean contains(T value) {
+    for(Node node=root;node!=null;node=node.next) {
+      for(int i=0;i<node.count;i++) {
+        if(value == null ? node.values[i] == null : value.equals(node.values[i])) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of elements in the UnrolledLinkedList.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns `true` if the UnrolledLinkedList is empty, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Displays the UnrolledLinkedList.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(Node node=root;node!=null;node=node.next) {
+      for(int i=0;i<node.count;i++) {
+        System.out.println(node.values[i].toString());
+      }
+    }
+    System.out.println();
+  }
+}
@@ -0,0 +1,317 @@
+/**
+ * ArrayLinkedList is a class to represent a doubly linked list stored in
+ * parallel arrays instead of node objects.
+ *
+ * Slot `i` of the list is made of `values[i]`, `next[i]` and `prev[i]`, and
+ * the slot index is the handle returned when an element is added. A handle
+ * stays valid until its element is removed, which allows O(1) `unlink`,
+ * `moveToFront` and `insertAfter`, the building blocks of an LRU cache.
+ * Removed slots are kept in a free list linked through `next` and reused by
+ * later adds, so there is no per-element object and no garbage.
+*/
+class ArrayLinkedList<T> {
+  // Marks the absence of a slot, like `null` for a node.
+  private static final int NIL = -1;
+
+  // Marks in `prev` that a slot is in the free list.
+  private static final int FREE = -2;
+
+  // To store default capacity of the list.
+  private static final int DEFAULT_CAPACITY = 16;
+
+  // Stores the elements of the slots.
+  private Object[] values;
+
+  // Stores the handle of the next and previous slot of every slot.
+  private int[] next;
+  private int[] prev;
+
+  // Stores the handle of the first and last slot in the linked list
+  private int root;
+  private int leaf;
+
+  // Stores the first slot of the free list
+  private int free;
+
+  // Stores the number of elements in the linked list
+  private int size;
+
+  /**
+   * Public constructor to initialize ArrayLinkedList with default capacity.
+   */
+  public ArrayLinkedList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Public constructor to initialize ArrayLinkedList with given capacity.
+   * The list grows when more elements are added.
+   */
+  public ArrayLinkedList(int capacity) {
+    capacity = Math.max(capacity, 1);
+    this.values = new Object[capacity];
+    this.next = new int[capacity];
+    this.prev = new int[capacity];
+    this.root = NIL;
+    this.leaf = NIL;
+    this.size = 0;
+    this.free = NIL;
+    addToFreeList(0, capacity);
+  }
+
+  /**
+   * Internal method to put the slots from `from` to `to - 1` in the free list.
+   */
+  private void addToFreeList(int from, int to) {
+    for(int i=to - 1;i>=from;i--) {
+      prev[i] = FREE;
+      next[i] = free;
+      free = i;
+    }
+  }
+
+  /**
+   * Internal method to take a slot from the free list, doubling the arrays
+   * if it is empty.
+   */
+  private int allocate(T elem) {
+    if(free == NIL) {
+      int capacity = values.length;
+      int newCapacity = capacity * 2;
+      Object[] newValues = new Object[newCapacity];
+      int[] newNext = new int[newCapacity];
+      int[] newPrev = new int[newCapacity];
+      System.arraycopy(values, 0, newValues, 0, capacity);
+      System.arraycopy(next, 0, newNext, 0, capacity);
+      System.arraycopy(prev, 0, newPrev, 0, capacity);
+      this.values = newValues;
+      this.next = newNext;
+      this.prev = newPrev;
+      addToFreeList(capacity, newCapacity);
+    }
+    int handle = free;
+    free = next[handle];
+    values[handle] = elem;
+    size++;
+    return handle;
+  }
+
+  /**
+   * Internal method to throw `IllegalArgumentException` if the handle does
+   * not belong to an element of the list.
+   */
+  private void checkHandle(int handle) {
+    if(handle < 0 || handle >= values.length || prev[handle] == FREE) {
+      throw new IllegalArgumentException("Invalid handle.");
+    }
+  }
+
+  /**
+   * Internal method to link the slot between `before` and `after`, either of
+   * which may be `NIL`.
+   */
+  private void link(int handle, int before, int after) {
+    prev[handle] = before;
+    next[handle] = after;
+    if(before == NIL) {
+      root = handle;
+    } else {
+      next[before] = handle;
+    }
+    if(after == NIL) {
+      leaf = handle;
+    } else {
+      prev[after] = handle;
+    }
+  }
+
+  /**
+   * Internal method to detach the slot from its neighbours.
+   */
+  private void detach(int handle) {
+    int before = prev[handle];
+    int after = next[handle];
+    if(before == NIL) {
+      root = after;
+    } else {
+      next[before] = after;
+    }
+    if(after == NIL) {
+      leaf = before;
+    } else {
+      prev[after] = before;
+    }
+  }
+
+  /**
+   * Adds element at the end of the ArrayLinkedList and returns its handle.
+   *
+   * Complexity: O(1) amortized
+   */
+  public int addEnd(T elem) {
+    int handle = allocate(elem);
+    link(handle, leaf, NIL);
+    return handle;
+  }
+
+  /**
+   * Adds element at the start of the ArrayLinkedList and returns its handle.
+   *
+   * Complexity: O(1) amortized
+   */
+  public int addStart(T elem) {
+    int handle = allocate(elem);
+    link(handle, NIL, root);
+    return handle;
+  }
+
+  /**
+   * Adds element right after the element of the given handle and returns
+   * the handle of the new element.
+   * Throws `IllegalArgumentException` if the handle is not valid.
+   *
+   * Complexity: O(1) amortized
+   */
+  public int insertAfter(int handle, T elem) {
+    checkHandle(handle);
+    int newHandle = allocate(elem);
+    link(newHandle, handle, next[handle]);
+    return newHandle;
+  }
+
+  /**
+   * Removes the element of the given handle and returns it. The handle
+   * becomes invalid and may be returned again by a later add.
+   * Throws `IllegalArgumentException` if the handle is not valid.
+   *
+   * Complexity: O(1)
+   */
+  public T unlink(int handle) {
+    checkHandle(handle);
+    detach(handle);
+    T removedElem = (T) values[handle];
+    values[handle] = null;
+    prev[handle] = FREE;
+    next[handle] = free;
+    free = handle;
+    size--;
+    return removedElem;
+  }
+
+  /**
+   * Moves the element of the given handle to the start of the
+   * ArrayLinkedList. The handle stays valid.
+   * Throws `IllegalArgumentException` if the handle is not valid.
+   *
+   * Complexity: O(1)
+   */
+  public void moveToFront(int handle) {
+    checkHandle(handle);
+    if(handle == root) {
+      return;
+    }
+    detach(handle);
+    link(handle, NIL, root);
+  }
+
+  /**
+   * Returns the element of the given handle.
+   * Throws `IllegalArgumentException` if the handle is not valid.
+   *
+   * Complexity: O(1)
+   */
+  public T get(int handle) {
+    checkHandle(handle);
+    return (T) values[handle];
+  }
+
+  /**
+   * Returns the handle of the first element, or `-1` if ArrayLinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public int first() {
+    return root;
+  }
+
+  /**
+   * Returns the handle of the last element, or `-1` if ArrayLinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public int last() {
+    return leaf;
+  }
+
+  /**
+   * Removes element from the start of the ArrayLinkedList and returns it.
+   * Returns `null` if ArrayLinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T removeStart() {
+    if(root == NIL) {
+      return null;
+    }
+    return unlink(root);
+  }
+
+  /**
+   * Removes element from the end of the ArrayLinkedList and returns it.
+   * Returns `null` if ArrayLinkedList is empty.
+   *
+   * Complexity: O(1)
+   */
+  public T removeEnd() {
+    if(leaf == NIL) {
+      return null;
+    }
+    return unlink(leaf);
+  }
+
+  /**
+   * Removes the first occurrence of the given element from the
+   * ArrayLinkedList. Returns `true` if it was found, otherwise `false`.
+   *
+   * Complexity: O(n)
+   */
+  public boolean remove(T value) {
+    for(int i=root;i!=NIL;i=next[i]) {
+      if(value == null ? values[i] == null : value.equals(values[i])) {
+        unlink(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the number of elements in the ArrayLinkedList.
+   *
+   * Complexity: O(1)
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns `true` if the ArrayLinkedList is empty, otherwise returns `false`.
+   *
+   * Complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Displays the ArrayLinkedList.
+   *
+   * Complexity: O(n)
+   */
+  public void display() {
+    for(int i=root;i!=NIL;i=next[i]) {
+      System.out.println(values[i].toString());
+    }
+    System.out.println();
+  }
+}
@@ -29,9 +29,44 @@ class LinkedList<T> {
   // Stores the pointer to the last node in the linked list
   private Node<T> leaf;
 
+  // Stores released nodes for reuse, linked through `next`
+  private Node<T> pool;
+
+  // Stores the number of nodes in the pool
+  private int poolSize;
+
+  // Stores the largest number of nodes the pool keeps, `0` disables pooling
+  private final int poolCapacity;
+
   public LinkedList() {
+    this(0);
+  }
+
+  /**
+   * Public constructor to initialize LinkedList which keeps up to
+   * `poolCapacity` removed nodes for reuse by later adds.
+   */
+  public LinkedList(int poolCapacity) {
     this.root = null;
     this.leaf = null;
+    this.poolCapacity = poolCapacity;
+  }
+
+  /**
+   * Internal method to return a node holding the given values, taken from
+   * the pool if there is one.
+   */
+  private Node<T> newNode(T value, Node<T> prev, Node<T> next) {
+    if(pool == null) {
+      return new Node<T>(value, prev, next);
+    }
+    Node<T> node = pool;
+    pool = node.next;
+    poolSize--;
+    node.value = value;
+    node.prev = prev;
+    node.next = next;
+    return node;
   }
 
   /**
@@ -40,7 +75,7 @@ class LinkedList<T> {
    * Complexity: O(1)
    */
   public void addEnd(T elem) {
-    Node<T> newNode = new Node(elem, leaf, null);
+    Node<T> newNode = newNode(elem, leaf, null);
     if(root == null) {
       root = newNode;
       leaf = root;
@@ -56,7 +91,7 @@ class LinkedList<T> {
    * Complexity: O(1)
    */
   public void addStart(T elem) {
-    Node<T> newNode = new Node(elem, null, root);
+    Node<T> newNode = newNode(elem, null, root);
     if(root == null) {
       root = newNode;
       leaf = root;
@@ -86,10 +121,7 @@ class LinkedList<T> {
         root.prev = null;
       }
 
-      removedNode.value = null;
-      removedNode.next = null;
-      removedNode.prev = null;
-      removedNode = null;
+      release(removedNode);
 
       return removedElem;
     }
@@ -119,18 +151,15 @@ class LinkedList<T> {
         root = null;
       }
 
-      currentNode.value = null;
-      currentNode.next = null;
-      currentNode.prev = null;
-      currentNode = null;
+      release(currentNode);
 
       return removedElem;
     }
   }
 
   /**
-   * Removes the given element from the LinkedList and returns it.
-   * Returns `null` if element does not exist.
+   * Removes the first occurrence of the given element from the LinkedList.
+   * Returns `true` if it was found, otherwise returns `false`.
    *
    * Complexity: O(n)
    */
@@ -138,17 +167,20 @@ class LinkedList<T> {
     Node<T> currentNode = root;
     Node<T> prevNode = null;
     while(currentNode != null) {
-      if(currentNode.value == value) {
-        prevNode.next = currentNode.next;
+      if(value == null ? currentNode.value == null : value.equals(currentNode.value)) {
+        if(prevNode == null) {
+          root = currentNode.next;
+        } else {
+          prevNode.next = currentNode.next;
+        }
 
-        if(currentNode.next != null) {
+        if(currentNode.next == null) {
+          leaf = prevNode;
+        } else {
           currentNode.next.prev = prevNode;
         }
 
-        currentNode.value = null;
-        currentNode.next = null;
-        currentNode.prev = null;
-        currentNode = null;
+        release(currentNode);
         return true;
       }
       prevNode = currentNode;
@@ -157,6 +189,22 @@ class LinkedList<T> {
     return false;
   }
 
+  /**
+   * Internal method to clear a removed node and keep it for reuse if the
+   * pool has room, so steady-state adds and removes allocate nothing.
+   */
+  private void release(Node<T> node) {
+    node.value = null;
+    node.prev = null;
+    if(poolSize < poolCapacity) {
+      node.next = pool;
+      pool = node;
+      poolSize++;
+    } else {
+      node.next = null;
+    }
+  }
+
   /**
    * Displays the LinkedList.
    *
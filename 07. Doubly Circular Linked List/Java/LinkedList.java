@@ -26,8 +26,43 @@ class LinkedList<T> {
   // Stores the pointer to the first node in the linked list
   private Node<T> root;
 
+  // Stores released nodes for reuse, linked through `next`
+  private Node<T> pool;
+
+  // Stores the number of nodes in the pool
+  private int poolSize;
+
+  // Stores the largest number of nodes the pool keeps, `0` disables pooling
+  private final int poolCapacity;
+
   public LinkedList() {
+    this(0);
+  }
+
+  /**
+   * Public constructor to initialize LinkedList which keeps up to
+   * `poolCapacity` removed nodes for reuse by later adds.
+   */
+  public LinkedList(int poolCapacity) {
     this.root = null;
+    this.poolCapacity = poolCapacity;
+  }
+
+  /**
+   * Internal method to return a node holding the given values, taken from
+   * the pool if there is one.
+   */
+  private Node<T> newNode(T value, Node<T> prev, Node<T> next) {
+    if(pool == null) {
+      return new Node<T>(value, prev, next);
+    }
+    Node<T> node = pool;
+    pool = node.next;
+    poolSize--;
+    node.value = value;
+    node.prev = prev;
+    node.next = next;
+    return node;
   }
 
   /**
@@ -36,7 +71,7 @@ class LinkedList<T> {
    * Complexity: O(1)
    */
   public void addEnd(T elem) {
-    Node<T> newNode = new Node(elem, null, null);
+    Node<T> newNode = newNode(elem, null, null);
     if(root == null) {
       root = newNode;
       root.next = newNode;
@@ -56,7 +91,7 @@ class LinkedList<T> {
    * Complexity: O(1)
    */
   public void addStart(T elem) {
-    Node<T> newNode = new Node(elem, null, null);
+    Node<T> newNode = newNode(elem, null, null);
     if(root == null) {
       root = newNode;
       root.next = newNode;
@@ -93,10 +128,7 @@ class LinkedList<T> {
         }
       }
 
-      removedNode.value = null;
-      removedNode.next = null;
-      removedNode.prev = null;
-      removedNode = null;
+      release(removedNode);
 
       return removedElem;
     }
@@ -123,18 +155,15 @@ class LinkedList<T> {
         root.prev = preNode;
       }
 
-      currentNode.value = null;
-      currentNode.next = null;
-      currentNode.prev = null;
-      currentNode = null;
+      release(currentNode);
 
       return removedElem;
     }
   }
 
   /**
-   * Removes the given element from the LinkedList and returns it.
-   * Returns `null` if element does not exist.
+   * Removes the first occurrence of the given element from the LinkedList.
+   * Returns `true` if it was found, otherwise returns `false`.
    *
    * Complexity: O(n)
    */
@@ -144,7 +173,7 @@ class LinkedList<T> {
     Node<T> currentNode = root;
 
     do {
-      if(currentNode.value == value) {
+      if(value == null ? currentNode.value == null : value.equals(currentNode.value)) {
         Node<T> prevNode = currentNode.prev;
         prevNode.next = currentNode.next;
 
@@ -158,10 +187,7 @@ class LinkedList<T> {
 
         currentNode.next.prev = prevNode;
 
-        currentNode.value = null;
-        currentNode.next = null;
-        currentNode.prev = null;
-        currentNode = null;
+        release(currentNode);
         return true;
       }
       currentNode = currentNode.next;
@@ -169,6 +195,22 @@ class LinkedList<T> {
     return false;
   }
 
+  /**
+   * Internal method to clear a removed node and keep it for reuse if the
+   * pool has room, so steady-state adds and removes allocate nothing.
+   */
+  private void release(Node<T> node) {
+    node.value = null;
+    node.prev = null;
+    if(poolSize < poolCapacity) {
+      node.next = pool;
+      pool = node;
+      poolSize++;
+    } else {
+      node.next = null;
+    }
+  }
+
   /**
    * Displays the LinkedList.
    *